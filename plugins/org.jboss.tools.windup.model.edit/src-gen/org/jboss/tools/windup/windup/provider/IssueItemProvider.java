@@ -49,6 +49,7 @@ public class IssueItemProvider extends MarkerElementItemProvider {
 			super.getPropertyDescriptors(object);
 
 			addElementIdPropertyDescriptor(object);
+			addLinksPropertyDescriptor(object);
 			addFileAbsolutePathPropertyDescriptor(object);
 			addSeverityPropertyDescriptor(object);
 			addRuleIdPropertyDescriptor(object);
@@ -86,6 +87,28 @@ public class IssueItemProvider extends MarkerElementItemProvider {
 				 null));
 	}
 
+	/**
+	 * This adds a property descriptor for the Links feature.
+	 * <!-- begin-user-doc -->
+	 * <!-- end-user-doc -->
+	 * @generated
+	 */
+	protected void addLinksPropertyDescriptor(Object object) {
+		itemPropertyDescriptors.add
+			(createItemPropertyDescriptor
+				(((ComposeableAdapterFactory)adapterFactory).getRootAdapterFactory(),
+				 getResourceLocator(),
+				 getString("_UI_Issue_links_feature"),
+				 getString("_UI_PropertyDescriptor_description", "_UI_Issue_links_feature", "_UI_Issue_type"),
+				 WindupPackage.eINSTANCE.getIssue_Links(),
+				 true,
+				 false,
+				 true,
+				 null,
+				 null,
+				 null));
+	}
+
 	/**
 	 * This adds a property descriptor for the File Absolute Path feature.
 	 * <!-- begin-user-doc -->
@@ -340,7 +363,6 @@ public class IssueItemProvider extends MarkerElementItemProvider {
 	public Collection<? extends EStructuralFeature> getChildrenFeatures(Object object) {
 		if (childrenFeatures == null) {
 			super.getChildrenFeatures(object);
-			childrenFeatures.add(WindupPackage.eINSTANCE.getIssue_Links());
 			childrenFeatures.add(WindupPackage.eINSTANCE.getIssue_QuickFixes());
 		}
 		return childrenFeatures;
@@ -411,7 +433,6 @@ public class IssueItemProvider extends MarkerElementItemProvider {
 			case WindupPackage.ISSUE__WS_PATH:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), false, true));
 				return;
-			case WindupPackage.ISSUE__LINKS:
 			case WindupPackage.ISSUE__QUICK_FIXES:
 				fireNotifyChanged(new ViewerNotification(notification, notification.getNotifier(), true, false));
 				return;
@@ -430,11 +451,6 @@ public class IssueItemProvider extends MarkerElementItemProvider {
 	protected void collectNewChildDescriptors(Collection<Object> newChildDescriptors, Object object) {
 		super.collectNewChildDescriptors(newChildDescriptors, object);
 
-		newChildDescriptors.add
-			(createChildParameter
-				(WindupPackage.eINSTANCE.getIssue_Links(),
-				 WindupFactory.eINSTANCE.createLink()));
-
 		newChildDescriptors.add
 			(createChildParameter
 				(WindupPackage.eINSTANCE.getIssue_QuickFixes(),
@@ -15,6 +15,7 @@ import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.impl.ENotificationImpl;
 
 import org.eclipse.emf.ecore.util.EObjectContainmentEList;
+import org.eclipse.emf.ecore.util.EObjectEList;
 import org.eclipse.emf.ecore.util.InternalEList;
 
 import org.jboss.tools.windup.windup.Issue;
@@ -356,7 +357,7 @@ public class IssueImpl extends MarkerElementImpl implements Issue {
 	 */
 	public EList<Link> getLinks() {
 		if (links == null) {
-			links = new EObjectContainmentEList.Resolving<Link>(Link.class, this, WindupPackage.ISSUE__LINKS);
+			links = new EObjectEList<Link>(Link.class, this, WindupPackage.ISSUE__LINKS);
 		}
 		return links;
 	}
@@ -612,8 +613,6 @@ public class IssueImpl extends MarkerElementImpl implements Issue {
 	@Override
 	public NotificationChain eInverseRemove(InternalEObject otherEnd, int featureID, NotificationChain msgs) {
 		switch (featureID) {
-			case WindupPackage.ISSUE__LINKS:
-				return ((InternalEList<?>)getLinks()).basicRemove(otherEnd, msgs);
 			case WindupPackage.ISSUE__QUICK_FIXES:
 				return ((InternalEList<?>)getQuickFixes()).basicRemove(otherEnd, msgs);
 		}
@@ -12,10 +12,14 @@ package org.jboss.tools.windup.model;
 
 import java.lang.reflect.InvocationTargetException;
 
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.ui.plugin.AbstractUIPlugin;
+import org.jboss.tools.windup.model.util.LineIndex;
+import org.jboss.tools.windup.model.util.ProjectLocationIndex;
 import org.osgi.framework.BundleContext;
 
 /**
@@ -42,6 +46,8 @@ public class Activator extends AbstractUIPlugin {
 	public void start(BundleContext context) throws Exception {
 		super.start(context);
 		plugin = this;
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(LineIndex.INVALIDATOR, IResourceChangeEvent.POST_CHANGE);
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(ProjectLocationIndex.INVALIDATOR, IResourceChangeEvent.POST_CHANGE);
 	}
 
 	/*
@@ -49,6 +55,8 @@ public class Activator extends AbstractUIPlugin {
 	 * @see org.eclipse.ui.plugin.AbstractUIPlugin#stop(org.osgi.framework.BundleContext)
 	 */
 	public void stop(BundleContext context) throws Exception {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(LineIndex.INVALIDATOR);
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(ProjectLocationIndex.INVALIDATOR);
 		plugin = null;
 		super.stop(context);
 	}
@@ -12,6 +12,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
 
+import org.jboss.tools.windup.runtime.kantra.KantraScheduler;
 import org.jboss.tools.windup.runtime.options.IOptionKeys;
 import org.jboss.tools.windup.windup.ConfigurationElement;
 import org.jboss.tools.windup.windup.Pair;
@@ -107,6 +108,14 @@ public class KantraConfiguration {
 //        return location.toAbsolutePath().toString();
     }
     
+    /**
+     * Returns the location of the <code>output.yaml</code> of the given input when the configuration's inputs
+     * were analyzed by separate kantra processes.
+     */
+    public String getRulesetResultLocation(String input) {
+    	return KantraScheduler.getOutputLocation(this.configuration.getOutputLocation(), input) + File.separatorChar + "output.yaml";
+    }
+    
     public String sourceBase() {
         // return "file:///opt/input/source/";
         return "file:///tmp/source-code/";
@@ -0,0 +1,233 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Incident;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Link;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Ruleset;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Violation;
+import org.yaml.snakeyaml.LoaderOptions;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Pull parser for Kantra's <code>output.yaml</code>.
+ *
+ * Walks the YAML token stream and hands each {@link Incident} to an {@link IncidentHandler}
+ * as soon as it has been read, so the full list of incidents is never held in memory.
+ * Ruleset and violation metadata (names, descriptions, links, effort) is retained,
+ * but the violations' incident lists stay empty.
+ */
+public class KantraOutputStreamParser {
+
+	/**
+	 * Receives the contents of <code>output.yaml</code> as it is being parsed.
+	 */
+	public static interface IncidentHandler {
+		/**
+		 * Called once the violation's key has been read. Properties of the violation
+		 * that appear after its incidents (links, effort) are not yet available.
+		 */
+		void startViolation(Ruleset ruleset, String ruleId, Violation violation);
+		/**
+		 * Called for every incident of the current violation.
+		 */
+		void incident(Ruleset ruleset, String ruleId, Violation violation, Incident incident);
+		/**
+		 * Called once all properties of the violation have been read.
+		 */
+		void endViolation(Ruleset ruleset, String ruleId, Violation violation);
+	}
+
+	private static final YAMLFactory FACTORY = createFactory();
+
+	/**
+	 * Creates a factory for parsers of <code>output.yaml</code>, whatever its size.
+	 */
+	static YAMLFactory createFactory() {
+		LoaderOptions options = new LoaderOptions();
+		// output.yaml of large inputs easily exceeds SnakeYAML's default 3MB document limit.
+		options.setCodePointLimit(Integer.MAX_VALUE);
+		return YAMLFactory.builder().loaderOptions(options).build();
+	}
+
+	/**
+	 * Parses the specified <code>output.yaml</code>, streaming incidents to the handler.
+	 *
+	 * @return the rulesets containing at least one violation, without their incidents.
+	 */
+	public static List<Ruleset> parse(File yamlFile, IncidentHandler handler) throws IOException {
+		List<Ruleset> rulesets = Lists.newArrayList();
+		try (JsonParser parser = FACTORY.createParser(yamlFile)) {
+			JsonToken token = parser.nextToken();
+			if (token != JsonToken.START_ARRAY) {
+				return rulesets;
+			}
+			while (parser.nextToken() == JsonToken.START_OBJECT) {
+				Ruleset ruleset = parseRuleset(parser, handler);
+				if (ruleset.getViolations() != null && !ruleset.getViolations().isEmpty()) {
+					rulesets.add(ruleset);
+				}
+			}
+		}
+		return rulesets;
+	}
+
+	private static Ruleset parseRuleset(JsonParser parser, IncidentHandler handler) throws IOException {
+		Ruleset ruleset = new Ruleset();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			switch (field) {
+				case "name":
+					ruleset.setName(parser.getValueAsString());
+					break;
+				case "description":
+					ruleset.setDescription(parser.getValueAsString());
+					break;
+				case "tags":
+					ruleset.setTags(readStrings(parser, value));
+					break;
+				case "violations":
+					if (value == JsonToken.START_OBJECT) {
+						ruleset.setViolations(Maps.newLinkedHashMap());
+						parseViolations(parser, ruleset, handler);
+					}
+					break;
+				default:
+					parser.skipChildren();
+			}
+		}
+		return ruleset;
+	}
+
+	private static void parseViolations(JsonParser parser, Ruleset ruleset, IncidentHandler handler) throws IOException {
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String ruleId = parser.getCurrentName();
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				parser.skipChildren();
+				continue;
+			}
+			Violation violation = new Violation();
+			ruleset.addViolation(ruleId, violation);
+			handler.startViolation(ruleset, ruleId, violation);
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				JsonToken value = parser.nextToken();
+				switch (field) {
+					case "description":
+						violation.setDescription(parser.getValueAsString());
+						break;
+					case "category":
+						violation.setCategory(parser.getValueAsString());
+						break;
+					case "labels":
+						violation.setLabels(readStrings(parser, value));
+						break;
+					case "effort":
+						violation.setEffort(parser.getValueAsInt());
+						break;
+					case "links":
+						violation.setLinks(readLinks(parser, value));
+						break;
+					case "incidents":
+						if (value == JsonToken.START_ARRAY) {
+							while (parser.nextToken() == JsonToken.START_OBJECT) {
+								handler.incident(ruleset, ruleId, violation, readIncident(parser));
+							}
+						}
+						break;
+					default:
+						parser.skipChildren();
+				}
+			}
+			handler.endViolation(ruleset, ruleId, violation);
+		}
+	}
+
+	private static Incident readIncident(JsonParser parser) throws IOException {
+		Incident incident = new Incident();
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+			String field = parser.getCurrentName();
+			JsonToken value = parser.nextToken();
+			switch (field) {
+				case "uri":
+					incident.setUri(parser.getValueAsString());
+					break;
+				case "message":
+					incident.setMessage(parser.getValueAsString());
+					break;
+				case "codeSnip":
+					incident.setCodeSnip(parser.getValueAsString());
+					break;
+				case "lineNumber":
+					incident.setLineNumber(parser.getValueAsInt());
+					break;
+				case "variables":
+					if (value == JsonToken.START_OBJECT) {
+						Map<String, String> variables = Maps.newHashMap();
+						while (parser.nextToken() == JsonToken.FIELD_NAME) {
+							String key = parser.getCurrentName();
+							parser.nextToken();
+							variables.put(key, parser.getValueAsString());
+							parser.skipChildren();
+						}
+						incident.setVariables(variables);
+					}
+					break;
+				default:
+					parser.skipChildren();
+			}
+		}
+		return incident;
+	}
+
+	private static List<Link> readLinks(JsonParser parser, JsonToken value) throws IOException {
+		List<Link> links = Lists.newArrayList();
+		if (value != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return links;
+		}
+		while (parser.nextToken() == JsonToken.START_OBJECT) {
+			Link link = new Link();
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.getCurrentName();
+				parser.nextToken();
+				if ("url".equals(field)) {
+					link.setUrl(parser.getValueAsString());
+				}
+				else if ("title".equals(field)) {
+					link.setTitle(parser.getValueAsString());
+				}
+				else {
+					parser.skipChildren();
+				}
+			}
+			links.add(link);
+		}
+		return links;
+	}
+
+	private static List<String> readStrings(JsonParser parser, JsonToken value) throws IOException {
+		List<String> strings = Lists.newArrayList();
+		if (value != JsonToken.START_ARRAY) {
+			parser.skipChildren();
+			return strings;
+		}
+		while (parser.nextToken() != JsonToken.END_ARRAY) {
+			strings.add(parser.getValueAsString());
+			parser.skipChildren();
+		}
+		return strings;
+	}
+}
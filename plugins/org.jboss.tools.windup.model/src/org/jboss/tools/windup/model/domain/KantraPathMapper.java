@@ -0,0 +1,91 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Maps the file URIs of kantra's incidents to the locations of the files on disk.
+ *
+ * Kantra reports files relative to the location it mounted the input at, see {@link KantraConfiguration#sourceBase()},
+ * or by their own location when it ran without a container. Each of these prefixes is mapped to an input root.
+ * Mapped paths are interned, so the incidents of the same file share one path and resolve it with a single lookup.
+ */
+public class KantraPathMapper {
+
+	private static final String FILE_SCHEME = "file://"; //$NON-NLS-1$
+
+	// URI prefixes and the input roots they map to, longest prefix first.
+	private final List<String> prefixes = Lists.newArrayList();
+	private final List<String> roots = Lists.newArrayList();
+
+	private final Map<String, String> paths = Maps.newHashMap();
+
+	/**
+	 * @param sourceBase the URI at which kantra mounts the inputs.
+	 * @param inputs the inputs analyzed by the same kantra process.
+	 */
+	public KantraPathMapper(String sourceBase, List<String> inputs) {
+		String base = trimSeparator(sourceBase);
+		for (String input : inputs) {
+			String root = trimSeparator(input);
+			if (inputs.size() == 1) {
+				add(base, root);
+			}
+			else {
+				// Several inputs are mounted side by side, each in a directory named after the input.
+				add(base + '/' + new File(root).getName(), root);
+			}
+			add(FILE_SCHEME + root, root);
+		}
+		if (inputs.size() > 1) {
+			// Files directly beneath the mount point are attributed to the first input.
+			add(base, trimSeparator(inputs.get(0)));
+		}
+	}
+
+	private void add(String prefix, String root) {
+		int index = 0;
+		while (index < prefixes.size() && prefixes.get(index).length() >= prefix.length()) {
+			index++;
+		}
+		prefixes.add(index, prefix);
+		roots.add(index, root);
+	}
+
+	private static String trimSeparator(String path) {
+		return path.endsWith("/") ? path.substring(0, path.length() - 1) : path; //$NON-NLS-1$
+	}
+
+	public boolean isEmpty() {
+		return roots.isEmpty();
+	}
+
+	/**
+	 * Returns the location of the file the URI refers to. The same instance is returned for equal URIs.
+	 */
+	public String map(String uri) {
+		String path = paths.get(uri);
+		if (path == null) {
+			path = resolve(uri);
+			paths.put(uri, path);
+		}
+		return path;
+	}
+
+	private String resolve(String uri) {
+		for (int i = 0; i < prefixes.size(); i++) {
+			String prefix = prefixes.get(i);
+			if (uri.startsWith(prefix) && (uri.length() == prefix.length() || uri.charAt(prefix.length()) == '/')) {
+				return roots.get(i) + uri.substring(prefix.length());
+			}
+		}
+		return uri.startsWith(FILE_SCHEME) ? uri.substring(FILE_SCHEME.length()) : uri;
+	}
+}
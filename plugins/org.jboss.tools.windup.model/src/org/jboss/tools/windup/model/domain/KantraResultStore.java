@@ -0,0 +1,450 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
+import org.eclipse.emf.ecore.EStructuralFeature;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.jboss.tools.windup.model.Activator;
+import org.jboss.tools.windup.model.util.IssueUtil;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.jboss.tools.windup.windup.WindupResult;
+
+import com.google.common.base.Objects;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Binary store of the converted results of all configurations, kept in the plugin's state location next to the model.
+ *
+ * Opening the store only reads its index. The section of a configuration is read and decoded the first time its
+ * results are requested, so the cost of startup doesn't depend on the number of issues. The file is only open while it
+ * is read or written, so it can be replaced on every platform.
+ *
+ * Layout (version 1), all numbers big-endian:
+ * <pre>
+ * header:   magic, version, entry count, index offset (long)
+ * sections: per configuration, a string table followed by the issues, which refer to strings by index
+ * index:    per configuration, its name, the timestamp of its results, and the offset and length of its section
+ * </pre>
+ * A section is only used while the timestamp of its configuration is the one it was written with.
+ *
+ * Results read from or written to the store are tracked, and saving copies the stored section of results that haven't
+ * changed since instead of encoding them again. Issues added to or removed from a result are noticed by an adapter on
+ * the result alone, code that changes an issue reports it with {@link #changed(WindupResult)}.
+ */
+public class KantraResultStore {
+
+	private static final int MAGIC = 0x57524553; // WRES
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 20;
+
+	private static final byte HINT = 0;
+	private static final byte CLASSIFICATION = 1;
+
+	private static class Entry {
+		String timestamp;
+		long offset;
+		int length;
+	}
+
+	private final File file;
+	private Map<String, Entry> index = Maps.newHashMap();
+
+	/**
+	 * The results whose encoding is the stored section of their configuration.
+	 */
+	private final Map<WindupResult, Boolean> clean = Collections.synchronizedMap(new WeakHashMap<WindupResult, Boolean>());
+
+	private final Adapter tracker = new AdapterImpl() {
+		@Override
+		public void notifyChanged(Notification notification) {
+			Object feature = notification.getFeature();
+			if (!notification.isTouch() && !(feature instanceof EStructuralFeature && ((EStructuralFeature)feature).isTransient())) {
+				clean.remove(notification.getNotifier());
+			}
+		}
+	};
+
+	public KantraResultStore(File file) {
+		this.file = file;
+	}
+
+	/**
+	 * Reads the index of the store. A missing, outdated, or corrupt store is treated as empty.
+	 */
+	public synchronized void open() {
+		index.clear();
+		if (!file.exists()) {
+			return;
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) { //$NON-NLS-1$
+			long size = channel.size();
+			ByteBuffer header = size < HEADER_SIZE ? null : read(channel, 0, HEADER_SIZE);
+			if (header == null || header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+				Activator.logInfo("Ignoring outdated result store: " + file); //$NON-NLS-1$
+				return;
+			}
+			int count = header.getInt(8);
+			long indexOffset = header.getLong(12);
+			ByteBuffer in = read(channel, indexOffset, (int)(size - indexOffset));
+			for (int i = 0; i < count; i++) {
+				String name = readString(in);
+				Entry entry = new Entry();
+				entry.timestamp = readString(in);
+				entry.offset = in.getLong();
+				entry.length = in.getInt();
+				index.put(name, entry);
+			}
+		} catch (IOException | RuntimeException e) {
+			Activator.log(e);
+			index.clear();
+		}
+	}
+
+	/**
+	 * Decodes the stored results of the configuration.
+	 *
+	 * @return the results, or null if none are stored or they are not the configuration's current results.
+	 */
+	public synchronized WindupResult read(ConfigurationElement configuration) {
+		Entry entry = index.get(configuration.getName());
+		if (entry == null || !Objects.equal(entry.timestamp, configuration.getTimestamp())) {
+			return null;
+		}
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) { //$NON-NLS-1$
+			WindupResult result = decode(read(channel, entry.offset, entry.length));
+			track(result);
+			return result;
+		} catch (IOException | RuntimeException e) {
+			Activator.log(e);
+			return null;
+		}
+	}
+
+	/**
+	 * Rewrites the store with the results of the given configurations. Results that are currently loaded are encoded
+	 * if they changed since they were stored, the stored bytes of all other configurations are kept as they are.
+	 *
+	 * @return the number of results that were encoded.
+	 */
+	public synchronized int save(List<ConfigurationElement> configurations) {
+		File temp = new File(file.getParentFile(), file.getName() + ".tmp"); //$NON-NLS-1$
+		Map<String, Entry> written = Maps.newLinkedHashMap();
+		List<WindupResult> encoded = Lists.newArrayList();
+		try (RandomAccessFile raf = new RandomAccessFile(temp, "rw"); FileChannel channel = raf.getChannel(); //$NON-NLS-1$
+				RandomAccessFile storedRaf = index.isEmpty() ? null : new RandomAccessFile(file, "r")) { //$NON-NLS-1$
+			raf.setLength(0);
+			long position = HEADER_SIZE;
+			for (ConfigurationElement configuration : configurations) {
+				Entry stored = index.get(configuration.getName());
+				if (stored != null && !Objects.equal(stored.timestamp, configuration.getTimestamp())) {
+					stored = null;
+				}
+				WindupResult result = configuration.getWindupResult();
+				Entry entry = new Entry();
+				entry.timestamp = configuration.getTimestamp();
+				entry.offset = position;
+				if (result != null && (stored == null || !clean.containsKey(result))) {
+					ByteBuffer section = ByteBuffer.wrap(encode(result));
+					entry.length = section.remaining();
+					position = write(channel, section, position);
+					encoded.add(result);
+				} else if (stored != null) {
+					entry.length = stored.length;
+					position = copy(storedRaf.getChannel(), stored, channel, position);
+				} else {
+					continue;
+				}
+				written.put(configuration.getName(), entry);
+			}
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			for (Map.Entry<String, Entry> entry : written.entrySet()) {
+				writeString(out, entry.getKey());
+				writeString(out, entry.getValue().timestamp);
+				out.writeLong(entry.getValue().offset);
+				out.writeInt(entry.getValue().length);
+			}
+			long indexOffset = position;
+			write(channel, ByteBuffer.wrap(bytes.toByteArray()), indexOffset);
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+			header.putInt(MAGIC).putInt(VERSION).putInt(written.size()).putLong(indexOffset);
+			header.flip();
+			write(channel, header, 0);
+		} catch (IOException e) {
+			Activator.log(e);
+			temp.delete();
+			return 0;
+		}
+		try {
+			Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			encoded.forEach(this::track);
+		} catch (IOException e) {
+			Activator.log(e);
+		}
+		open();
+		return encoded.size();
+	}
+
+	/**
+	 * Returns whether the results are the stored results of their configuration, and haven't changed since.
+	 */
+	public boolean isStored(WindupResult result) {
+		return clean.containsKey(result);
+	}
+
+	/**
+	 * Records that an issue of the results changed, so that they are encoded again on the next save.
+	 */
+	public void changed(WindupResult result) {
+		clean.remove(result);
+	}
+
+	/**
+	 * Returns whether any of the loaded results of the configurations changed since they were stored.
+	 */
+	public boolean hasChanges(List<ConfigurationElement> configurations) {
+		for (ConfigurationElement configuration : configurations) {
+			WindupResult result = configuration.getWindupResult();
+			if (result != null && !clean.containsKey(result)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Marks the results as stored, until they change.
+	 */
+	private void track(WindupResult result) {
+		if (!result.eAdapters().contains(tracker)) {
+			result.eAdapters().add(tracker);
+		}
+		clean.put(result, Boolean.TRUE);
+	}
+
+	/**
+	 * Reads the given number of bytes at the position of the channel.
+	 */
+	private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+		ByteBuffer bytes = ByteBuffer.allocate(length);
+		while (bytes.hasRemaining()) {
+			int read = channel.read(bytes, position + bytes.position());
+			if (read < 0) {
+				throw new EOFException("Truncated result store"); //$NON-NLS-1$
+			}
+		}
+		bytes.flip();
+		return bytes;
+	}
+
+	/**
+	 * Copies the stored section to the position of the target channel.
+	 *
+	 * @return the position after the copied section.
+	 */
+	private static long copy(FileChannel source, Entry stored, FileChannel target, long position) throws IOException {
+		long copied = 0;
+		while (copied < stored.length) {
+			long transferred = source.transferTo(stored.offset + copied, stored.length - copied, target.position(position + copied));
+			if (transferred <= 0) {
+				throw new EOFException("Truncated result store"); //$NON-NLS-1$
+			}
+			copied += transferred;
+		}
+		return position + copied;
+	}
+
+	private static long write(FileChannel channel, ByteBuffer bytes, long position) throws IOException {
+		while (bytes.hasRemaining()) {
+			position += channel.write(bytes, position);
+		}
+		return position;
+	}
+
+	private static byte[] encode(WindupResult result) throws IOException {
+		List<String> strings = Lists.newArrayList();
+		Map<String, Integer> ids = Maps.newHashMap();
+		ByteArrayOutputStream issueBytes = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(issueBytes);
+		out.writeInt(result.getIssues().size());
+		for (Issue issue : result.getIssues()) {
+			out.writeByte(issue instanceof Hint ? HINT : CLASSIFICATION);
+			writeRef(out, issue.getName(), strings, ids);
+			writeRef(out, issue.getElementId(), strings, ids);
+			writeRef(out, issue.getFileAbsolutePath(), strings, ids);
+			writeRef(out, issue.getSeverity(), strings, ids);
+			writeRef(out, issue.getRuleId(), strings, ids);
+			writeRef(out, issue.getGeneratedReportLocation(), strings, ids);
+			writeRef(out, issue.getOriginalLineSource(), strings, ids);
+			writeRef(out, issue.getTitle(), strings, ids);
+			writeRef(out, issue.getMessageOrDescription(), strings, ids);
+			writeRef(out, issue.getWsPath(), strings, ids);
+			out.writeInt(issue.getEffort());
+			out.writeBoolean(issue.isFixed());
+			out.writeBoolean(issue.isStale());
+			if (issue instanceof Hint) {
+				Hint hint = (Hint)issue;
+				out.writeInt(hint.getLineNumber());
+				out.writeInt(hint.getColumn());
+				out.writeInt(hint.getLength());
+				writeRef(out, hint.getSourceSnippet(), strings, ids);
+			}
+			List<Link> links = IssueUtil.getLinks(issue);
+			out.writeInt(links.size());
+			for (Link link : links) {
+				writeRef(out, link.getDescription(), strings, ids);
+				writeRef(out, link.getUrl(), strings, ids);
+			}
+			List<QuickFix> quickfixes = IssueUtil.getQuickFixes(issue);
+			out.writeInt(quickfixes.size());
+			for (QuickFix quickfix : quickfixes) {
+				writeRef(out, quickfix.getName(), strings, ids);
+				writeRef(out, quickfix.getId(), strings, ids);
+				writeRef(out, quickfix.getQuickFixType(), strings, ids);
+				writeRef(out, quickfix.getSearchString(), strings, ids);
+				writeRef(out, quickfix.getReplacementString(), strings, ids);
+				writeRef(out, quickfix.getNewLine(), strings, ids);
+				writeRef(out, quickfix.getTransformationId(), strings, ids);
+				writeRef(out, quickfix.getFile(), strings, ids);
+			}
+		}
+		ByteArrayOutputStream section = new ByteArrayOutputStream();
+		DataOutputStream sectionOut = new DataOutputStream(section);
+		sectionOut.writeInt(strings.size());
+		for (String string : strings) {
+			writeString(sectionOut, string);
+		}
+		issueBytes.writeTo(sectionOut);
+		return section.toByteArray();
+	}
+
+	private static WindupResult decode(ByteBuffer in) {
+		String[] strings = new String[in.getInt()];
+		for (int i = 0; i < strings.length; i++) {
+			strings[i] = readString(in);
+		}
+		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+		int count = in.getInt();
+		List<Issue> issues = Lists.newArrayListWithCapacity(count);
+		// Issues refer to links, they don't contain them, so equal links are decoded once and shared.
+		Map<Long, Link> links = Maps.newHashMap();
+		for (int i = 0; i < count; i++) {
+			byte kind = in.get();
+			Issue issue = kind == HINT ? WindupFactory.eINSTANCE.createHint() : WindupFactory.eINSTANCE.createClassification();
+			issue.setName(readRef(in, strings));
+			issue.setElementId(readRef(in, strings));
+			issue.setFileAbsolutePath(readRef(in, strings));
+			issue.setSeverity(readRef(in, strings));
+			issue.setRuleId(readRef(in, strings));
+			issue.setGeneratedReportLocation(readRef(in, strings));
+			issue.setOriginalLineSource(readRef(in, strings));
+			issue.setTitle(readRef(in, strings));
+			issue.setMessageOrDescription(readRef(in, strings));
+			issue.setWsPath(readRef(in, strings));
+			issue.setEffort(in.getInt());
+			issue.setFixed(in.get() != 0);
+			issue.setStale(in.get() != 0);
+			if (issue instanceof Hint) {
+				Hint hint = (Hint)issue;
+				hint.setLineNumber(in.getInt());
+				hint.setColumn(in.getInt());
+				hint.setLength(in.getInt());
+				hint.setSourceSnippet(readRef(in, strings));
+			}
+			int linkCount = in.getInt();
+			for (int j = 0; j < linkCount; j++) {
+				int description = in.getInt();
+				int url = in.getInt();
+				Link link = links.computeIfAbsent(((long)description << 32) | (url & 0xFFFFFFFFL), key -> {
+					Link decoded = WindupFactory.eINSTANCE.createLink();
+					decoded.setDescription(description < 0 ? null : strings[description]);
+					decoded.setUrl(url < 0 ? null : strings[url]);
+					return decoded;
+				});
+				((InternalEList<Link>)issue.getLinks()).addUnique(link);
+			}
+			int quickfixes = in.getInt();
+			for (int j = 0; j < quickfixes; j++) {
+				QuickFix quickfix = WindupFactory.eINSTANCE.createQuickFix();
+				quickfix.setName(readRef(in, strings));
+				quickfix.setId(readRef(in, strings));
+				quickfix.setQuickFixType(readRef(in, strings));
+				quickfix.setSearchString(readRef(in, strings));
+				quickfix.setReplacementString(readRef(in, strings));
+				quickfix.setNewLine(readRef(in, strings));
+				quickfix.setTransformationId(readRef(in, strings));
+				quickfix.setFile(readRef(in, strings));
+				issue.getQuickFixes().add(quickfix);
+			}
+			issues.add(issue);
+		}
+		// Add all issues at once so the containment list grows only once.
+		result.getIssues().addAll(issues);
+		return result;
+	}
+
+	private static void writeRef(DataOutputStream out, String value, List<String> strings, Map<String, Integer> ids) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		Integer id = ids.get(value);
+		if (id == null) {
+			id = strings.size();
+			strings.add(value);
+			ids.put(value, id);
+		}
+		out.writeInt(id);
+	}
+
+	private static String readRef(ByteBuffer in, String[] strings) {
+		int id = in.getInt();
+		return id < 0 ? null : strings[id];
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -1,19 +1,33 @@
 package org.jboss.tools.windup.model.domain;
 
 import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.jboss.tools.windup.model.Activator;
 import org.jboss.tools.windup.model.domain.KantraConfiguration;
 import org.jboss.tools.windup.model.domain.KantraConfiguration.Link;
 import org.jboss.tools.windup.model.domain.KantraConfiguration.Ruleset;
+import org.jboss.tools.windup.model.domain.KantraOutputStreamParser.IncidentHandler;
 import org.jboss.tools.windup.model.domain.ModelService;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
 import org.jboss.tools.windup.windup.WindupFactory;
 import org.jboss.tools.windup.windup.WindupResult;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 import static org.jboss.tools.windup.model.domain.KantraConfiguration.*;
 
@@ -25,10 +39,14 @@ public class KantraRulesetParser {
 	        ClassLoader jacksonClassLoader = KantraRulesetParser.class.getClassLoader();
 	        try {
 	        	currentThread.setContextClassLoader(jacksonClassLoader);
-	            ObjectMapper objectMapper = new ObjectMapper(new YAMLFactory());
+	            ObjectMapper objectMapper = new ObjectMapper(KantraOutputStreamParser.createFactory());
 	            File yamlFile = new File(resultFilePath);
 	            objectMapper.findAndRegisterModules();
-	            List<Ruleset> ruleSets = objectMapper.readValue(yamlFile, new TypeReference<List<Ruleset>>(){});
+	            List<Ruleset> ruleSets;
+	            try (AnalysisMetrics.Timer timer = AnalysisMetrics.time("Parse output.yaml")) { //$NON-NLS-1$
+	            	ruleSets = objectMapper.readValue(yamlFile, new TypeReference<List<Ruleset>>(){});
+	            	timer.count("bytes", yamlFile.length()); //$NON-NLS-1$
+	            }
 	            if (ruleSets != null) {
 	                ruleSets.removeIf(ruleset -> { 
 	                	System.out.println("deleting ruleset without violations");
@@ -51,71 +69,304 @@ public class KantraRulesetParser {
 	        return null;
 	    }
 	 
+    /**
+     * Streams the configuration's <code>output.yaml</code> straight into a new {@link WindupResult}.
+     * Incidents are converted to hints as they are read and are never held as a whole.
+     * 
+     * If the inputs were analyzed by separate kantra processes, the <code>output.yaml</code> of every input
+     * is read instead and the results are merged into a single summary.
+     */
     public static void parseRulesetForKantraConfig (KantraConfiguration configuration){
-        String outputLocation = configuration.getRulesetResultLocation();
-        File outFile = new File(outputLocation);
+        // Build the result detached from the model and attach it once complete.
+        List<Issue> issues = Lists.newArrayList();
+        List<Ruleset> rulesets = Lists.newArrayList();
+        List<Input> inputs = configuration.getWindupConfiguration().getInputs();
+        File outFile = new File(configuration.getRulesetResultLocation());
+        if (outFile.exists()) {
+        	parse(outFile, new HintCollector(createPathMapper(configuration, inputs), issues), rulesets);
+        }
+        else {
+        	for (Input input : inputs) {
+        		File inputFile = new File(configuration.getRulesetResultLocation(input.getLocation()));
+        		if (inputFile.exists()) {
+        			parse(inputFile, new HintCollector(createPathMapper(configuration, input.getLocation()), issues), rulesets);
+        		}
+        	}
+        }
+        if (!rulesets.isEmpty()) {
+        	AnalysisResultsSummary summary = new AnalysisResultsSummary(rulesets);
+        	configuration.setSummary(summary);
+        	WindupResult result = ModelService.createResult();
+        	ModelService.addIssues(result, issues);
+        	ModelService.attachResult(configuration.getWindupConfiguration(), result);
+        }
+    }
+    
+    /**
+     * Restores the summary of the configuration from its <code>output.yaml</code>, without converting incidents.
+     * Used when the configuration's results are read from the result store, which doesn't hold the summary.
+     */
+    public static void parseSummary(KantraConfiguration configuration) {
+        List<Ruleset> rulesets = Lists.newArrayList();
+        List<Input> inputs = configuration.getWindupConfiguration().getInputs();
+        File outFile = new File(configuration.getRulesetResultLocation());
         if (outFile.exists()) {
-        	List<Ruleset> rulesets = parseRuleset(outputLocation);
-        	if (!rulesets.isEmpty()) {
-        		AnalysisResultsSummary summary = new AnalysisResultsSummary(rulesets);
-				configuration.setSummary(summary);
-		        processIncidents(rulesets, configuration);
+        	parse(outFile, SKIP_INCIDENTS, rulesets);
+        }
+        else {
+        	for (Input input : inputs) {
+        		File inputFile = new File(configuration.getRulesetResultLocation(input.getLocation()));
+        		if (inputFile.exists()) {
+        			parse(inputFile, SKIP_INCIDENTS, rulesets);
+        		}
         	}
         }
+        if (!rulesets.isEmpty()) {
+        	configuration.setSummary(new AnalysisResultsSummary(rulesets));
+        }
+    }
+    
+    private static final IncidentHandler SKIP_INCIDENTS = new IncidentHandler() {
+    	@Override
+    	public void startViolation(Ruleset ruleset, String ruleId, Violation violation) {
+    	}
+    	@Override
+    	public void incident(Ruleset ruleset, String ruleId, Violation violation, Incident incident) {
+    	}
+    	@Override
+    	public void endViolation(Ruleset ruleset, String ruleId, Violation violation) {
+    	}
+    };
+    
+    /**
+     * Replaces the hints of the given inputs in the configuration's result with the hints read from the inputs'
+     * own <code>output.yaml</code>, leaving the hints of all other inputs untouched.
+     * 
+     * @param existing the configuration's current result, or null if it has none.
+     * @return the hints that were added.
+     */
+    public static List<Issue> mergeInputResults(KantraConfiguration configuration, WindupResult existing, List<String> inputs) {
+    	ConfigurationElement element = configuration.getWindupConfiguration();
+    	if (existing == null) {
+    		existing = WindupFactory.eINSTANCE.createWindupResult();
+    		element.setWindupResult(existing);
+    	}
+    	Set<Issue> removed = Sets.newIdentityHashSet();
+    	removed.addAll(getIssues(existing, inputs));
+    	if (!removed.isEmpty()) {
+    		// Rebuilding the list is linear, removing the issues one by one would search and shift it for each of them.
+    		List<Issue> kept = Lists.newArrayListWithCapacity(existing.getIssues().size() - removed.size());
+    		for (Issue issue : existing.getIssues()) {
+    			if (!removed.contains(issue)) {
+    				kept.add(issue);
+    			}
+    		}
+    		existing.getIssues().clear();
+    		ModelService.addIssues(existing, kept);
+    	}
+    	
+    	List<Issue> added = Lists.newArrayList();
+    	List<Ruleset> rulesets = configuration.getSummary() != null ? 
+    			Lists.newArrayList(configuration.getSummary().getRulesets()) : Lists.newArrayList();
+    	for (String input : inputs) {
+    		File inputFile = new File(configuration.getRulesetResultLocation(input));
+    		if (inputFile.exists()) {
+    			parse(inputFile, new HintCollector(createPathMapper(configuration, input), added), rulesets);
+    		}
+    	}
+    	ModelService.addIssues(existing, added);
+    	configuration.setSummary(new AnalysisResultsSummary(rulesets));
+    	element.setTimestamp(ModelService.createTimestamp());
+    	return added;
+    }
+    
+    /**
+     * Returns the issues of the result located in any of the given inputs.
+     */
+    public static List<Issue> getIssues(WindupResult result, List<String> inputs) {
+    	List<Issue> issues = Lists.newArrayList();
+    	if (result == null) {
+    		return issues;
+    	}
+    	for (Issue issue : result.getIssues()) {
+    		String path = issue.getFileAbsolutePath();
+    		if (path != null && inputs.stream().anyMatch(input -> isLocatedIn(path, input))) {
+    			issues.add(issue);
+    		}
+    	}
+    	return issues;
+    }
+    
+    private static boolean isLocatedIn(String path, String input) {
+    	if (!path.startsWith(input)) {
+    		return false;
+    	}
+    	return path.length() == input.length() || input.endsWith("/") || path.charAt(input.length()) == '/';
+    }
+    
+    private static KantraPathMapper createPathMapper(KantraConfiguration configuration, List<Input> inputs) {
+    	List<String> locations = Lists.newArrayList();
+    	inputs.forEach(input -> locations.add(input.getLocation()));
+    	return new KantraPathMapper(configuration.sourceBase(), locations);
+    }
+    
+    private static KantraPathMapper createPathMapper(KantraConfiguration configuration, String input) {
+    	return new KantraPathMapper(configuration.sourceBase(), Collections.singletonList(input));
+    }
+    
+    /**
+     * Parses one <code>output.yaml</code> and merges its rulesets into the given list.
+     */
+    private static void parse(File outFile, IncidentHandler handler, List<Ruleset> rulesets) {
+    	try (AnalysisMetrics.Timer timer = AnalysisMetrics.time("Parse and convert results")) { //$NON-NLS-1$
+    		List<Ruleset> parsed = KantraOutputStreamParser.parse(outFile, handler);
+    		timer.count("bytes", outFile.length()).count("rulesets", parsed.size()); //$NON-NLS-1$ //$NON-NLS-2$
+    		if (handler instanceof HintCollector) {
+    			timer.count("hints", ((HintCollector)handler).count); //$NON-NLS-1$
+    		}
+    		for (Ruleset ruleset : parsed) {
+    			int index = indexOf(rulesets, ruleset.getName());
+    			if (index >= 0) {
+    				rulesets.set(index, merge(rulesets.get(index), ruleset));
+    			}
+    			else {
+    				rulesets.add(ruleset);
+    			}
+    		}
+    	} catch (IOException e) {
+    		Activator.logErrorMessage("Error reading results: " + outFile.getAbsolutePath(), e); //$NON-NLS-1$
+    	}
+    }
+    
+    private static int indexOf(List<Ruleset> rulesets, String name) {
+    	for (int i = 0; i < rulesets.size(); i++) {
+    		if (Objects.equals(rulesets.get(i).getName(), name)) {
+    			return i;
+    		}
+    	}
+    	return -1;
+    }
+    
+    /**
+     * Returns a copy of the ruleset with the violations of the other ruleset added. The ruleset may belong to the
+     * summary of results that are still shown, so it is not changed.
+     */
+    private static Ruleset merge(Ruleset ruleset, Ruleset other) {
+    	Ruleset merged = new Ruleset();
+    	merged.setName(ruleset.getName());
+    	merged.setDescription(ruleset.getDescription());
+    	merged.setUnmatched(ruleset.getUnmatched());
+    	merged.setTags(ruleset.getTags());
+    	merged.setSkipped(ruleset.getSkipped());
+    	merged.setErrors(ruleset.getErrors());
+    	Map<String, Violation> violations = Maps.newLinkedHashMap();
+    	if (ruleset.getViolations() != null) {
+    		violations.putAll(ruleset.getViolations());
+    	}
+    	if (other.getViolations() != null) {
+    		violations.putAll(other.getViolations());
+    	}
+    	merged.setViolations(violations);
+    	return merged;
     }
 	    
     public static void processIncidents(List<Ruleset> rulesets, KantraConfiguration configuration) {
         if (rulesets != null) {
-        	System.out.println("processIncidents");
-        	WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
-            configuration.getWindupConfiguration().setWindupResult(result);
-            configuration.getWindupConfiguration().setTimestamp(ModelService.createTimestamp());
+        	AnalysisMetrics.Timer timer = AnalysisMetrics.time("Convert incidents"); //$NON-NLS-1$
+        	List<Issue> issues = Lists.newArrayList();
+            List<Input> inputs = configuration.getWindupConfiguration().getInputs();
+            HintCollector collector = new HintCollector(createPathMapper(configuration, inputs), issues);
             for (Ruleset ruleset: rulesets) {
-            	System.out.println("Ruleset");
                 Map<String, Violation> violations = ruleset.getViolations();
-                System.out.println("Violations");
-                System.out.println(violations);
                 if (violations != null ){
                     for (Map.Entry<String, Violation> entry : violations.entrySet()) {
-                    	System.out.println("entry");
-                    	System.out.println(entry);
-                        toHints(configuration, entry.getKey(), entry.getValue(), result);
+                    	Violation violation = entry.getValue();
+                    	collector.startViolation(ruleset, entry.getKey(), violation);
+                    	for (Incident incident : violation.getIncidents()) {
+                    		collector.incident(ruleset, entry.getKey(), violation, incident);
+                    	}
+                    	collector.endViolation(ruleset, entry.getKey(), violation);
                     }
                 }
             }
+            WindupResult result = ModelService.createResult();
+            ModelService.addIssues(result, issues);
+            ModelService.attachResult(configuration.getWindupConfiguration(), result);
+            timer.count("rulesets", rulesets.size()).count("hints", collector.count).close(); //$NON-NLS-1$ //$NON-NLS-2$
         }
     }
     
-    private static void toHints(KantraConfiguration configuration, String ruleId, Violation violation, WindupResult result) {
-    	System.out.println("toHints");
-    	if (configuration.getWindupConfiguration().getInputs().isEmpty()) return;
-    	String input = configuration.getWindupConfiguration().getInputs().get(0).getLocation();
-    	String title = violation.getDescription().split("\n", 2)[0];
-    	for (Incident incident : violation.getIncidents()) {
-    		org.jboss.tools.windup.windup.Hint hint = WindupFactory.eINSTANCE.createHint();
-    		result.getIssues().add(hint);    		
-    		String filePath = incident.getUri();
-    		System.out.println("Incident");
-    		System.out.println("FilePath: ");
-    		System.out.println(filePath);
-    		String absolutePath = filePath.substring(filePath.indexOf("/source-code") + "/source-code".length());
-    		hint.setFileAbsolutePath(input + absolutePath);
-    		System.out.println("Absolute Path");
-    		System.out.println(hint.getFileAbsolutePath());
-    		
-    		// System.out.println("Incident File: " + hint.getFileAbsolutePath());
+    /**
+     * Converts incidents into hints, one at a time, and collects them in the given list. The hints are added to
+     * a result in bulk once all of them are converted.
+     * 
+     * A violation's links and effort follow its incidents in <code>output.yaml</code>, so the hints of the
+     * current violation are remembered until the violation is complete.
+     * 
+     * Data repeated across incidents is shared rather than copied: the hints of a violation refer to the same
+     * title and links, and equal messages are interned. File paths are shared by the {@link KantraPathMapper}.
+     */
+    private static class HintCollector implements IncidentHandler {
+    	
+    	private KantraPathMapper pathMapper;
+    	private List<Issue> issues;
+    	private List<Hint> pending = Lists.newArrayList();
+    	private Map<String, String> strings = Maps.newHashMap();
+    	private int count;
+    	
+    	public HintCollector(KantraPathMapper pathMapper, List<Issue> issues) {
+    		this.pathMapper = pathMapper;
+    		this.issues = issues;
+    	}
+    	
+    	@Override
+    	public void startViolation(Ruleset ruleset, String ruleId, Violation violation) {
+    		pending.clear();
+    	}
+    	
+    	@Override
+    	public void incident(Ruleset ruleset, String ruleId, Violation violation, Incident incident) {
+    		if (pathMapper.isEmpty()) return;
+    		Hint hint = WindupFactory.eINSTANCE.createHint();
+    		count++;
+    		hint.setFileAbsolutePath(pathMapper.map(incident.getUri()));
     		hint.setRuleId(ruleId);
-    		hint.setTitle(title);
     		hint.setLineNumber(incident.getLineNumber());
     		hint.setOriginalLineSource(incident.getCodeSnip());
-    		hint.setEffort(violation.getEffort()); 
-    		hint.setMessageOrDescription(incident.getMessage());
+    		hint.setMessageOrDescription(intern(incident.getMessage()));
+    		pending.add(hint);
+    	}
+    	
+    	private String intern(String value) {
+    		if (value == null) {
+    			return null;
+    		}
+    		String interned = strings.putIfAbsent(value, value);
+    		return interned != null ? interned : value;
+    	}
+    	
+    	@Override
+    	public void endViolation(Ruleset ruleset, String ruleId, Violation violation) {
+    		if (pending.isEmpty()) {
+    			return;
+    		}
+    		String title = violation.getDescription() != null ? intern(violation.getDescription().split("\n", 2)[0]) : null;
+    		List<org.jboss.tools.windup.windup.Link> links = Lists.newArrayListWithCapacity(violation.getLinks().size());
     		for (Link link : violation.getLinks()) {
     			org.jboss.tools.windup.windup.Link windupLink = WindupFactory.eINSTANCE.createLink();
-    			hint.getLinks().add(windupLink);
-    			windupLink.setDescription(link.getTitle());
-    			windupLink.setUrl(link.getUrl());
+    			windupLink.setDescription(intern(link.getTitle()));
+    			windupLink.setUrl(intern(link.getUrl()));
+    			links.add(windupLink);
+    		}
+    		for (Hint hint : pending) {
+    			hint.setTitle(title);
+    			hint.setEffort(violation.getEffort());
+    			if (!links.isEmpty()) {
+    				((InternalEList<org.jboss.tools.windup.windup.Link>)hint.getLinks()).addAllUnique(links);
+    			}
     		}
+    		issues.addAll(pending);
+    		pending.clear();
     	}
     }
 }
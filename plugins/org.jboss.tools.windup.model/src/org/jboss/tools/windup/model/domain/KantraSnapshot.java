@@ -0,0 +1,150 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.model.domain;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.jboss.tools.windup.model.Activator;
+import org.jboss.tools.windup.runtime.kantra.KantraScheduler;
+import org.jboss.tools.windup.windup.Input;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.hash.Hashing;
+
+/**
+ * Content hashes of the files of an input, as they were when the input was last analyzed.
+ *
+ * Used for incremental analysis: the snapshot of every input is saved next to its results, and at the next
+ * launch only the inputs whose files changed since then are analyzed again.
+ */
+public class KantraSnapshot {
+
+	private static final String SNAPSHOT_FILE = "snapshot.properties"; //$NON-NLS-1$
+
+	private final String input;
+	private final Map<String, String> hashes;
+
+	private KantraSnapshot(String input, Map<String, String> hashes) {
+		this.input = input;
+		this.hashes = hashes;
+	}
+
+	public String getInput() {
+		return input;
+	}
+
+	/**
+	 * Hashes the current contents of every file of the input. Hidden files and directories are ignored.
+	 */
+	public static KantraSnapshot compute(String input) throws IOException {
+		Path root = new File(input).toPath();
+		Map<String, String> hashes = Maps.newHashMap();
+		if (Files.isDirectory(root)) {
+			Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+				@Override
+				public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+					return !dir.equals(root) && isHidden(dir) ? FileVisitResult.SKIP_SUBTREE : FileVisitResult.CONTINUE;
+				}
+				@Override
+				public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+					if (attrs.isRegularFile() && !isHidden(file)) {
+						hashes.put(root.relativize(file).toString(), hash(file.toFile()));
+					}
+					return FileVisitResult.CONTINUE;
+				}
+			});
+		}
+		else if (Files.isRegularFile(root)) {
+			hashes.put(root.getFileName().toString(), hash(root.toFile()));
+		}
+		return new KantraSnapshot(input, hashes);
+	}
+
+	private static boolean isHidden(Path path) {
+		return path.getFileName().toString().startsWith("."); //$NON-NLS-1$
+	}
+
+	private static String hash(File file) throws IOException {
+		return com.google.common.io.Files.asByteSource(file).hash(Hashing.murmur3_128()).toString();
+	}
+
+	/**
+	 * Returns the inputs of the configuration that have to be analyzed again, i.e. the inputs without
+	 * results or a saved snapshot, and the inputs whose files differ from the saved snapshot.
+	 *
+	 * @param current the snapshots of the configuration's inputs as they are now.
+	 */
+	public static List<KantraSnapshot> findChanged(KantraConfiguration configuration, List<KantraSnapshot> current) {
+		List<KantraSnapshot> changed = Lists.newArrayList();
+		for (KantraSnapshot snapshot : current) {
+			File results = new File(configuration.getRulesetResultLocation(snapshot.input));
+			KantraSnapshot previous = load(configuration, snapshot.input);
+			if (!results.exists() || previous == null || !previous.hashes.equals(snapshot.hashes)) {
+				changed.add(snapshot);
+			}
+		}
+		return changed;
+	}
+
+	/**
+	 * Computes the snapshots of all inputs of the configuration.
+	 */
+	public static List<KantraSnapshot> computeAll(KantraConfiguration configuration) throws IOException {
+		List<KantraSnapshot> snapshots = Lists.newArrayList();
+		for (Input input : configuration.getWindupConfiguration().getInputs()) {
+			snapshots.add(compute(input.getLocation()));
+		}
+		return snapshots;
+	}
+
+	private static File getSnapshotFile(KantraConfiguration configuration, String input) {
+		String location = KantraScheduler.getOutputLocation(configuration.getWindupConfiguration().getOutputLocation(), input);
+		return new File(location, SNAPSHOT_FILE);
+	}
+
+	private static KantraSnapshot load(KantraConfiguration configuration, String input) {
+		File file = getSnapshotFile(configuration, input);
+		if (!file.exists()) {
+			return null;
+		}
+		Properties properties = new Properties();
+		try (InputStream in = new FileInputStream(file)) {
+			properties.load(in);
+		} catch (IOException e) {
+			Activator.log(e);
+			return null;
+		}
+		Map<String, String> hashes = Maps.newHashMap();
+		properties.stringPropertyNames().forEach(name -> hashes.put(name, properties.getProperty(name)));
+		return new KantraSnapshot(input, hashes);
+	}
+
+	/**
+	 * Saves the snapshot next to the results of its input.
+	 */
+	public void save(KantraConfiguration configuration) {
+		File file = getSnapshotFile(configuration, input);
+		Properties properties = new Properties();
+		properties.putAll(hashes);
+		try (OutputStream out = new FileOutputStream(file)) {
+			properties.store(out, null);
+		} catch (IOException e) {
+			Activator.log(e);
+		}
+	}
+}
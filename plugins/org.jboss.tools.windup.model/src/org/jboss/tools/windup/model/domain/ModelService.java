@@ -19,8 +19,11 @@ import java.net.URL;
 import java.nio.file.Files;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -40,17 +43,30 @@ import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.FileLocator;
 import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.NullProgressMonitor;
 import org.eclipse.core.runtime.Path;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.core.di.annotations.Creatable;
 import org.eclipse.e4.core.services.events.IEventBroker;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
 import org.eclipse.emf.common.util.ECollections;
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EStructuralFeature;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
 import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+import org.eclipse.emf.ecore.util.InternalEList;
 import org.eclipse.emf.edit.domain.EditingDomain;
+import org.eclipse.emf.transaction.RollbackException;
+import org.eclipse.emf.transaction.Transaction;
+import org.eclipse.emf.transaction.TransactionalCommandStack;
 import org.eclipse.emf.transaction.TransactionalEditingDomain;
 import org.eclipse.jdt.core.IPackageFragment;
 import org.eclipse.m2e.core.internal.MavenPluginActivator;
@@ -63,6 +79,7 @@ import org.jboss.tools.windup.model.OptionFacades;
 import org.jboss.tools.windup.model.OptionFacades.OptionsFacadeManager;
 import org.jboss.tools.windup.model.util.DocumentUtils;
 import org.jboss.tools.windup.runtime.WindupRuntimePlugin;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
 import org.jboss.tools.windup.runtime.options.Help;
 import org.jboss.tools.windup.windup.ConfigurationElement;
 import org.jboss.tools.windup.windup.CustomRuleProvider;
@@ -85,7 +102,9 @@ import org.osgi.framework.Bundle;
 import org.osgi.framework.FrameworkUtil;
 
 import com.google.common.base.Objects;
+import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 
 /**
  * Service for interacting with Windup's model and editing domain.
@@ -104,13 +123,16 @@ public class ModelService {
 	
     private static final String TIMESTAMP_FORMAT = "yyyy.MM.dd.HH.mm.ss"; //$NON-NLS-1$
 	
-	public static IPath reportsDir = Activator.getDefault().getStateLocation().append("reports"); //$NON-NLS-1$
+	public static IPath reportsDir = Activator.getDefault() != null ? 
+			Activator.getDefault().getStateLocation().append("reports") : null; //$NON-NLS-1$
 	
     public static final String PROJECT_REPORT_HOME_PAGE = "index.html"; //$NON-NLS-1$
     public static final String REPORT_FOLDER = "reports"; //$NON-NLS-1$
     public static final String INPUT_INDEX = "report_index_"; //$NON-NLS-1$
     
-    private static final String MODEL_FILE = "windup.xmi";
+    private static final String MODEL_FILE = "windup.bin";
+    private static final String LEGACY_MODEL_FILE = "windup.xmi";
+    private static final String RESULTS_FILE = "windup-results.bin";
     private static final String IGNORE_FILE = "default-windup-ignore.txt";
 
     private IEventBroker broker;
@@ -120,7 +142,33 @@ public class ModelService {
 	
 	private Map<ConfigurationElement, KantraConfiguration> kantraModelDelegates = Maps.newHashMap(); 
 	
+	private KantraResultStore resultStore = new KantraResultStore(getWindupStateLocation(RESULTS_FILE));
+	
+	/**
+	 * The maximum number of configurations whose results are kept in memory at once.
+	 */
+	private static final int MAX_RESIDENT_RESULTS = 3;
+	
+	/**
+	 * The configurations whose results are in memory, least recently used first.
+	 */
+	private Map<ConfigurationElement, Boolean> residentResults = new LinkedHashMap<ConfigurationElement, Boolean>(16, 0.75f, true);
+	
+	/**
+	 * The configurations whose results must stay in memory, because markers refer to their issues.
+	 */
+	private Set<ConfigurationElement> pinnedResults = Sets.newHashSet();
+	
+	private Job evictionJob = new Job("Release analysis results") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			evictResults();
+			return Status.OK_STATUS;
+		}
+	};
+	
 	public ModelService() {
+		evictionJob.setSystem(true);
 		this.load();
 	}
 	
@@ -221,22 +269,77 @@ public class ModelService {
 		return cmd.getResultObject();
 	}
 	
+	/**
+	 * Creates results to be populated detached from the model, with notifications turned off.
+	 * Issues are added with {@link #addIssues(WindupResult, Collection)}, and the results are attached to their
+	 * configuration with {@link #attachResult(ConfigurationElement, WindupResult)} once complete.
+	 */
+	public static WindupResult createResult() {
+		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+		result.eSetDeliver(false);
+		return result;
+	}
+	
+	/**
+	 * Adds the issues to the results at once, without checking each of them for uniqueness.
+	 */
+	public static void addIssues(WindupResult result, Collection<? extends Issue> issues) {
+		((InternalEList<Issue>)result.getIssues()).addAllUnique(issues);
+	}
+	
+	/**
+	 * Attaches populated results to the configuration and stamps it, in a single command that isn't recorded for
+	 * undo. Listeners are notified once, instead of once per issue.
+	 * 
+	 * Outside of a running platform, as in the benchmarks, there's no editing domain and the results are attached directly.
+	 */
+	public static void attachResult(ConfigurationElement configuration, WindupResult result) {
+		result.eSetDeliver(true);
+		Runnable attach = () -> {
+			configuration.setWindupResult(result);
+			configuration.setTimestamp(createTimestamp());
+		};
+		if (Activator.getDefault() == null) {
+			attach.run();
+			return;
+		}
+		TransactionalEditingDomain domain = TransactionalEditingDomain.Registry.INSTANCE.getEditingDomain(DOMAIN_NAME);
+		CommandWithResult<Void> cmd = new CommandWithResult<Void>(domain) {
+			@Override
+			protected void doExecute() {
+				attach.run();
+			}
+		};
+		try {
+			((TransactionalCommandStack)domain.getCommandStack()).execute(cmd, 
+					Collections.singletonMap(Transaction.OPTION_NO_UNDO, Boolean.TRUE));
+		} catch (InterruptedException | RollbackException e) {
+			Activator.log(e);
+		}
+	}
+	
 	private void load() {
 		File location = getWindupStateLocation(MODEL_FILE);
+		File legacyLocation = getWindupStateLocation(LEGACY_MODEL_FILE);
 		System.out.println("State Location:");
 		System.out.println(getStateURI());
 		Resource resource = createResource();
-		if (location != null && location.exists()) {
+		if (location.exists() || legacyLocation.exists()) {
 			try {
-				resource.load(null);
+				if (location.exists()) {
+					resource.load(null);
+				}
+				else {
+					// Models saved by earlier versions are XMI, they're migrated to the binary resource on the next save.
+					Resource legacy = resource.getResourceSet().getResource(URI.createFileURI(legacyLocation.getAbsolutePath()), true);
+					resource.getContents().addAll(legacy.getContents());
+				}
 				model = (WindupModel)resource.getContents().get(0);
-				model.getConfigurationElements().forEach(configuration -> {
-					configuration.setWindupResult(null);
-					KantraConfiguration kantraConfig = new KantraConfiguration(configuration);
-					KantraRulesetParser.parseRulesetForKantraConfig(kantraConfig);
-					this.kantraModelDelegates.put(configuration, kantraConfig);
-				});
-			} catch (IOException e) {
+				// Results are not part of the model, they're decoded from the result store when first needed.
+				// Models saved by earlier versions still contain results, which are dropped.
+				resultStore.open();
+				model.getConfigurationElements().forEach(configuration -> configuration.setWindupResult(null));
+			} catch (IOException | RuntimeException e) {
 				Activator.logInfo("Something has gone wrong and invalidated the underlying model. Creating another one...");
 				resource.getContents().clear();
 				initModel(resource);
@@ -271,23 +374,158 @@ public class ModelService {
 		save();
 	}
 	
+	/**
+	 * Makes sure the results of the configuration are loaded, decoding them from the result store if
+	 * it holds the configuration's current results, or parsing kantra's output otherwise.
+	 * 
+	 * @return the configuration's results, null if it has none.
+	 */
+	public synchronized WindupResult loadResults(ConfigurationElement configuration) {
+		if (configuration.getWindupResult() == null) {
+			WindupResult result = resultStore.read(configuration);
+			if (result != null) {
+				// Results are transient, so restoring them doesn't make the model dirty.
+				configuration.setWindupResult(result);
+				KantraConfiguration delegate = getDelegate(configuration);
+				if (delegate.getSummary() == null) {
+					KantraRulesetParser.parseSummary(delegate);
+				}
+			}
+			else {
+				KantraRulesetParser.parseRulesetForKantraConfig(getDelegate(configuration));
+			}
+		}
+		if (configuration.getWindupResult() != null) {
+			residentResults.put(configuration, Boolean.TRUE);
+			if (residentResults.size() > MAX_RESIDENT_RESULTS) {
+				evictionJob.schedule();
+			}
+		}
+		return configuration.getWindupResult();
+	}
+	
+	/**
+	 * Keeps the results of the configuration in memory until {@link #unpinResults()} is called. 
+	 * Called once markers refer to the configuration's issues.
+	 */
+	public synchronized void pinResults(ConfigurationElement configuration) {
+		pinnedResults.add(configuration);
+	}
+	
+	/**
+	 * Allows the results of all configurations to be released again. Called once all markers are deleted.
+	 */
+	public synchronized void unpinResults() {
+		pinnedResults.clear();
+		if (residentResults.size() > MAX_RESIDENT_RESULTS) {
+			evictionJob.schedule();
+		}
+	}
+	
+	/**
+	 * Writes the results of the least recently used configurations back to the result store and releases them, 
+	 * until at most {@link #MAX_RESIDENT_RESULTS} configurations have results in memory. Results that are pinned,
+	 * or that changed since they were written, stay in memory. Runs in the background, as saving may take a while.
+	 */
+	private void evictResults() {
+		synchronized (this) {
+			if (residentResults.size() <= MAX_RESIDENT_RESULTS) {
+				return;
+			}
+		}
+		save();
+		synchronized (this) {
+			int excess = residentResults.size() - MAX_RESIDENT_RESULTS;
+			for (Iterator<ConfigurationElement> iterator = residentResults.keySet().iterator(); iterator.hasNext() && excess > 0;) {
+				ConfigurationElement configuration = iterator.next();
+				WindupResult result = configuration.getWindupResult();
+				if (pinnedResults.contains(configuration) || (result != null && !resultStore.isStored(result))) {
+					continue;
+				}
+				iterator.remove();
+				excess--;
+				// The delegate keeps its summary, which is small, for merging the results of later runs.
+				configuration.setWindupResult(null);
+			}
+		}
+	}
+	
+	/**
+	 * Saves the model and the results in memory, if anything changed since the last save. Results that haven't
+	 * changed since they were read from or written to the result store aren't encoded again.
+	 */
 	public void save() {
-		try {
-			model.eResource().save(null);
+		Resource resource = model.eResource();
+		boolean modelChanged = resource.isModified() || !getWindupStateLocation(MODEL_FILE).exists();
+		if (!modelChanged && !resultStore.hasChanges(model.getConfigurationElements())) {
+			return;
+		}
+		try (AnalysisMetrics.Timer timer = AnalysisMetrics.time("Save model")) { //$NON-NLS-1$
+			int encoded = resultStore.save(model.getConfigurationElements());
+			if (modelChanged) {
+				resource.save(null);
+			}
+			timer.count("configurations", model.getConfigurationElements().size()); //$NON-NLS-1$
+			timer.count("encoded results", encoded); //$NON-NLS-1$
 		} catch (IOException e) {
 			Activator.log(e);
 		}
 	}
 	
+	/**
+	 * Creates the binary resource of the model. Results are transient, so the resource only holds the configurations,
+	 * migration paths and rule repositories.
+	 */
 	private Resource createResource() {
 		ResourceSet resourceSet = new ResourceSetImpl();
-        resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put
-            (Resource.Factory.Registry.DEFAULT_EXTENSION, 
-             new XMIResourceFactoryImpl());
-        
-        Resource resource = resourceSet.createResource(getStateURI());
-        resource.setTrackingModification(true);
-        return resource;
+		resourceSet.getResourceFactoryRegistry().getExtensionToFactoryMap().put
+			(Resource.Factory.Registry.DEFAULT_EXTENSION, 
+			 new XMIResourceFactoryImpl());
+		
+		Resource resource = new BinaryResourceImpl(getStateURI()) {
+			// Results are transient and tracked by the result store, so their objects don't get the modification
+			// tracking adapter, and changes to transient features such as markers don't make the model modified.
+			@Override
+			protected void attachedHelper(EObject eObject) {
+				if (!isResultContent(eObject)) {
+					super.attachedHelper(eObject);
+				}
+			}
+			@Override
+			protected Adapter createModificationTrackingAdapter() {
+				return new ModificationTrackingAdapter() {
+					@Override
+					public void notifyChanged(Notification notification) {
+						Object feature = notification.getFeature();
+						if (!(feature instanceof EStructuralFeature) || !((EStructuralFeature)feature).isTransient()) {
+							super.notifyChanged(notification);
+						}
+					}
+				};
+			}
+		};
+		resourceSet.getResources().add(resource);
+		resource.setTrackingModification(true);
+		return resource;
+	}
+	
+	private static boolean isResultContent(EObject eObject) {
+		for (EObject object = eObject; object != null; object = object.eContainer()) {
+			if (object instanceof WindupResult) {
+				return true;
+			}
+		}
+		return false;
+	}
+	
+	/**
+	 * Records that the issue changed, so that its results are saved again. Issues added to or removed from
+	 * results don't need to be reported.
+	 */
+	public void issueChanged(Issue issue) {
+		if (issue.eContainer() instanceof WindupResult) {
+			resultStore.changed((WindupResult)issue.eContainer());
+		}
 	}
 	
 	private URI getStateURI() {
@@ -326,8 +564,10 @@ public class ModelService {
 		return null;
 	}
 	
-	public void deleteConfiguration(ConfigurationElement configuration) {
+	public synchronized void deleteConfiguration(ConfigurationElement configuration) {
 		model.getConfigurationElements().remove(configuration);
+		residentResults.remove(configuration);
+		kantraModelDelegates.remove(configuration);
 //		broker.post(CONFIG_DELETED, configuration);
 	}
 	
@@ -335,8 +575,24 @@ public class ModelService {
 		((WindupResult)issue.eContainer()).getIssues().remove(issue);
 	}
 	
-	public KantraConfiguration getKantraDelegate(ConfigurationElement configuration) {
-		return this.kantraModelDelegates.get(configuration);
+	/**
+	 * Returns the delegate of the configuration, loading the configuration's results if they aren't in memory.
+	 */
+	public synchronized KantraConfiguration getKantraDelegate(ConfigurationElement configuration) {
+		KantraConfiguration delegate = getDelegate(configuration);
+		loadResults(configuration);
+		return delegate;
+	}
+	
+	/**
+	 * Returns the delegate of the configuration without loading its results, for callers that only need its locations.
+	 */
+	public synchronized KantraConfiguration getKantraLocations(ConfigurationElement configuration) {
+		return getDelegate(configuration);
+	}
+	
+	private KantraConfiguration getDelegate(ConfigurationElement configuration) {
+		return this.kantraModelDelegates.computeIfAbsent(configuration, KantraConfiguration::new);
 	}
 	
 	public ConfigurationElement createConfiguration(String name) {
@@ -488,10 +744,9 @@ public class ModelService {
 	 * Populates the configuration element with the execution results.
 	 */
 	public void populateConfiguration(ConfigurationElement configuration, ExecutionResults results) {
-    		WindupResult result = WindupFactory.eINSTANCE.createWindupResult();
+    		WindupResult result = createResult();
         result.setExecutionResults(results);
-        configuration.setWindupResult(result);
-        configuration.setTimestamp(createTimestamp());
+        List<Issue> issues = Lists.newArrayList();
 
         for (Iterator<Hint> iter = results.getHints().iterator(); iter.hasNext();) {
         		
@@ -513,7 +768,7 @@ public class ModelService {
 			}*/
 				
 	        	org.jboss.tools.windup.windup.Hint hint = WindupFactory.eINSTANCE.createHint();
-	        	result.getIssues().add(hint);
+	        	issues.add(hint);
 	        	
 	        	if (isTextMimeType(wHint)) {
 		        	String line = DocumentUtils.getLine(resource, wHint.getLineNumber()-1);
@@ -575,7 +830,7 @@ public class ModelService {
 			}*/
 				
 	        	org.jboss.tools.windup.windup.Classification classification = WindupFactory.eINSTANCE.createClassification();
-	        	result.getIssues().add(classification);
+	        	issues.add(classification);
 	        	
 	        //	String line = DocumentUtils.getLine(resource, wClassification.getLineNumber()-1);
 	        	// hint.setOriginalLineSource(line);
@@ -621,7 +876,9 @@ public class ModelService {
         }
         
         //
-        linkReports(configuration, results, result.getIssues());
+        addIssues(result, issues);
+        linkReports(configuration, results, issues);
+        attachResult(configuration, result);
 	}
 	
 	private boolean isTextMimeType(Hint hint) {
@@ -12,11 +12,8 @@ package org.jboss.tools.windup.model.domain;
 
 import java.io.File;
 import java.net.URL;
-import java.text.Collator;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
-import java.util.Optional;
 
 import org.eclipse.core.filesystem.URIUtil;
 import org.eclipse.core.resources.IFile;
@@ -31,6 +28,7 @@ import org.eclipse.emf.common.util.URI;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.jboss.tools.windup.model.Activator;
+import org.jboss.tools.windup.model.util.ProjectLocationIndex;
 
 /**
  * Utility for working with the Eclipse workspace resources.
@@ -63,16 +61,10 @@ public class WorkspaceResourceUtils {
 	}
 	
 	/**
-	 * @return the project in the workspace matching the specified name.
+	 * @return the project in the workspace located at the specified location.
 	 */
 	public static IProject findProject(String absoluteLocation) {
-		Optional<IProject> optional = Arrays.stream(ResourcesPlugin.getWorkspace().getRoot().getProjects()).filter(proj -> {
-			return Collator.getInstance().equals(proj.getLocation().toString(), absoluteLocation);
-		}).findFirst();
-		if (optional.isPresent()) {
-			return optional.get();
-		}
-		return null;
+		return ProjectLocationIndex.findProject(new Path(absoluteLocation));
 	}
 	
 	public static IResource findResource(String uriString) {
@@ -107,7 +99,10 @@ public class WorkspaceResourceUtils {
 		return file;
 	}
 	
+	/**
+	 * Returns the file at the specified location, resolved through the index of project locations.
+	 */
 	public static IFile getResource(String absolutePath) {
-		return ResourcesPlugin.getWorkspace().getRoot().getFileForLocation(new Path(absolutePath));
+		return ProjectLocationIndex.getFile(new Path(absolutePath));
 	}
 }
@@ -37,26 +37,20 @@ public class DocumentUtils {
 	 * Returns the line of text from the specified resource at the specified line number.
 	 */
 	public static String getLine(IResource resource, int lineNumber) {
-		try {
-			String contents = FileUtils.readFileToString(resource.getLocation().toFile());
-			IDocument document = new Document(contents);
-			IRegion region = document.getLineInformation(lineNumber);
-			return document.get(region.getOffset(), region.getLength());
-		} catch (IOException | BadLocationException e) {
-			Activator.log(e);
+		LineIndex index = LineIndex.get(resource);
+		if (index != null) {
+			String line = index.getLine(lineNumber);
+			if (line != null) {
+				return line;
+			}
+			Activator.logErrorMessage("DocumentUtils:: line " + lineNumber + " does not exist in " + resource.getLocation()); //$NON-NLS-1$ //$NON-NLS-2$
 		}
 		return "";
 	}
 
 	public static int getLineNumbers(IResource resource) {
-		try {
-			String contents = FileUtils.readFileToString(resource.getLocation().toFile());
-			Document document = new Document(contents);
-			return document.getNumberOfLines();
-		} catch (Exception e) {
-			Activator.log(e);
-		}
-		return 0;
+		LineIndex index = LineIndex.get(resource);
+		return index != null ? index.getNumberOfLines() : 0;
 	}
 	
 	/**
@@ -0,0 +1,79 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.util;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.Link;
+import org.jboss.tools.windup.windup.QuickFix;
+import org.jboss.tools.windup.windup.WindupPackage;
+
+/**
+ * Utility for reading {@link Issue}s.
+ *
+ * The lists of an issue are created the first time they're requested. Most issues have no quick fixes, so code that
+ * visits every issue reads them through this utility, which doesn't create empty lists.
+ */
+public class IssueUtil {
+
+	// A line of a kantra code snippet: the line number, right-aligned, followed by the line of code.
+	private static final Pattern SNIPPET_LINE = Pattern.compile("\\s*(\\d+)(?:\\s(.*))?"); //$NON-NLS-1$
+
+	/**
+	 * Returns the quick fixes of the issue, an immutable empty list if it has none.
+	 */
+	public static List<QuickFix> getQuickFixes(Issue issue) {
+		return issue.eIsSet(WindupPackage.eINSTANCE.getIssue_QuickFixes()) ? issue.getQuickFixes() : Collections.<QuickFix>emptyList();
+	}
+
+	/**
+	 * Returns the links of the issue, an immutable empty list if it has none.
+	 */
+	public static List<Link> getLinks(Issue issue) {
+		return issue.eIsSet(WindupPackage.eINSTANCE.getIssue_Links()) ? issue.getLinks() : Collections.<Link>emptyList();
+	}
+
+	public static boolean hasQuickFixes(Issue issue) {
+		return issue.eIsSet(WindupPackage.eINSTANCE.getIssue_QuickFixes());
+	}
+
+	/**
+	 * Returns the line of code the hint was reported on, without leading and trailing whitespace.
+	 *
+	 * The original source of a kantra hint is a snippet of the lines around the incident, each prefixed with its line
+	 * number, from which the hint's line is picked. Any other original source is the line itself.
+	 *
+	 * @return the line, or null if it is unknown.
+	 */
+	public static String getSourceLine(Hint hint) {
+		String source = hint.getOriginalLineSource();
+		if (source == null) {
+			return null;
+		}
+		String[] lines = source.split("\\r\\n|\\r|\\n"); //$NON-NLS-1$
+		if (!SNIPPET_LINE.matcher(lines[0]).matches()) {
+			return source.trim();
+		}
+		String lineNumber = String.valueOf(hint.getLineNumber());
+		for (String line : lines) {
+			Matcher matcher = SNIPPET_LINE.matcher(line);
+			if (matcher.matches() && matcher.group(1).equals(lineNumber)) {
+				return matcher.group(2) != null ? matcher.group(2).trim() : ""; //$NON-NLS-1$
+			}
+		}
+		return null;
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IPath;
+import org.jboss.tools.windup.model.Activator;
+
+/**
+ * The contents of a file along with the offsets at which each of its lines start.
+ *
+ * Indexes are cached per file location and reused for as long as the resource's modification stamp
+ * is unchanged, so that looking up the lines of many issues in the same file reads the file only once.
+ * Line delimiters are recognized the same way as {@link org.eclipse.jface.text.Document} does.
+ */
+public class LineIndex {
+
+	private static final int CACHE_SIZE = 64;
+
+	private static final Map<IPath, LineIndex> cache = new LinkedHashMap<IPath, LineIndex>(CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IPath, LineIndex> eldest) {
+			return size() > CACHE_SIZE;
+		}
+	};
+
+	/**
+	 * Evicts the index of files whose contents changed or which were removed.
+	 */
+	public static final IResourceChangeListener INVALIDATOR = new IResourceChangeListener() {
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			if (event.getDelta() == null) {
+				return;
+			}
+			try {
+				event.getDelta().accept(delta -> {
+					if (delta.getResource().getType() == IResource.FILE) {
+						if (delta.getKind() == IResourceDelta.REMOVED ||
+								(delta.getFlags() & (IResourceDelta.CONTENT | IResourceDelta.REPLACED)) != 0) {
+							invalidate(delta.getResource());
+						}
+						return false;
+					}
+					return true;
+				});
+			} catch (CoreException e) {
+				Activator.log(e);
+			}
+		}
+	};
+
+	private final long modificationStamp;
+	private final String contents;
+	private final int[] lineStarts;
+	private final int lineCount;
+
+	private LineIndex(long modificationStamp, String contents) {
+		this.modificationStamp = modificationStamp;
+		this.contents = contents;
+		int[] starts = new int[64];
+		int count = 1;
+		int length = contents.length();
+		for (int i = 0; i < length; i++) {
+			char c = contents.charAt(i);
+			if (c == '\r' && i + 1 < length && contents.charAt(i + 1) == '\n') {
+				i++;
+			}
+			else if (c != '\r' && c != '\n') {
+				continue;
+			}
+			if (count == starts.length) {
+				starts = Arrays.copyOf(starts, count * 2);
+			}
+			starts[count++] = i + 1;
+		}
+		this.lineStarts = starts;
+		this.lineCount = count;
+	}
+
+	/**
+	 * Returns the index of the specified resource, reading the resource only if it isn't cached
+	 * or has been modified since it was last indexed.
+	 *
+	 * @return the index, or null if the resource could not be read.
+	 */
+	public static LineIndex get(IResource resource) {
+		IPath location = resource.getLocation();
+		if (location == null) {
+			return null;
+		}
+		long stamp = resource.getModificationStamp();
+		synchronized (cache) {
+			LineIndex index = cache.get(location);
+			if (index != null && index.modificationStamp == stamp) {
+				return index;
+			}
+		}
+		try {
+			File file = location.toFile();
+			String contents = new String(Files.readAllBytes(file.toPath()), Charset.defaultCharset());
+			LineIndex index = new LineIndex(stamp, contents);
+			synchronized (cache) {
+				cache.put(location, index);
+			}
+			return index;
+		} catch (IOException e) {
+			Activator.log(e);
+		}
+		return null;
+	}
+
+	/**
+	 * Indexes the given contents, e.g. an earlier version of a file. The index is not cached.
+	 */
+	public static LineIndex of(String contents) {
+		return new LineIndex(IResource.NULL_STAMP, contents);
+	}
+
+	public static void invalidate(IResource resource) {
+		IPath location = resource.getLocation();
+		if (location != null) {
+			synchronized (cache) {
+				cache.remove(location);
+			}
+		}
+	}
+
+	public int getNumberOfLines() {
+		return lineCount;
+	}
+
+	/**
+	 * Returns the text of all lines, without their line delimiters.
+	 */
+	public String[] getLines() {
+		String[] lines = new String[lineCount];
+		for (int i = 0; i < lineCount; i++) {
+			lines[i] = getLine(i);
+		}
+		return lines;
+	}
+
+	/**
+	 * Returns the text of the specified 0-based line, without its line delimiter.
+	 *
+	 * @return the line, or null if the line does not exist.
+	 */
+	public String getLine(int line) {
+		if (line < 0 || line >= lineCount) {
+			return null;
+		}
+		int start = lineStarts[line];
+		int end = line + 1 < lineCount ? lineStarts[line + 1] : contents.length();
+		if (end > start && contents.charAt(end - 1) == '\n') {
+			end--;
+		}
+		if (end > start && contents.charAt(end - 1) == '\r') {
+			end--;
+		}
+		return contents.substring(start, end);
+	}
+}
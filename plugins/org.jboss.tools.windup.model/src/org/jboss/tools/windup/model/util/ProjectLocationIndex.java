@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.model.util;
+
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.IPath;
+import org.eclipse.core.runtime.Platform;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Resolves absolute file system locations to workspace resources.
+ *
+ * The locations of all projects are kept in a trie keyed by the device of the location, then by its path segments,
+ * so that resolving a location walks the segments of the location once instead of querying the workspace root.
+ * The trie is rebuilt on the next lookup after projects were added, removed, opened, closed or moved.
+ */
+public class ProjectLocationIndex {
+
+	private static final boolean IGNORE_CASE = Platform.OS_WIN32.equals(Platform.getOS());
+
+	private static class Node {
+		private final Map<String, Node> children = Maps.newHashMap();
+		private IProject project;
+	}
+
+	private static volatile Node root;
+
+	/**
+	 * Discards the trie when the set of projects or their locations change.
+	 */
+	public static final IResourceChangeListener INVALIDATOR = new IResourceChangeListener() {
+		@Override
+		public void resourceChanged(IResourceChangeEvent event) {
+			IResourceDelta delta = event.getDelta();
+			if (delta == null) {
+				return;
+			}
+			for (IResourceDelta projectDelta : delta.getAffectedChildren()) {
+				if (projectDelta.getKind() != IResourceDelta.CHANGED ||
+						(projectDelta.getFlags() & (IResourceDelta.OPEN | IResourceDelta.DESCRIPTION | IResourceDelta.MOVED_FROM | IResourceDelta.MOVED_TO)) != 0) {
+					root = null;
+					return;
+				}
+			}
+		}
+	};
+
+	private static Node getRoot() {
+		Node current = root;
+		if (current == null) {
+			current = new Node();
+			for (IProject project : ResourcesPlugin.getWorkspace().getRoot().getProjects()) {
+				IPath location = project.getLocation();
+				if (location == null) {
+					continue;
+				}
+				Node node = current.children.computeIfAbsent(device(location), key -> new Node());
+				for (String segment : location.segments()) {
+					node = node.children.computeIfAbsent(key(segment), key -> new Node());
+				}
+				node.project = project;
+			}
+			root = current;
+		}
+		return current;
+	}
+
+	private static String key(String segment) {
+		return IGNORE_CASE ? segment.toLowerCase() : segment;
+	}
+
+	/**
+	 * Returns the first key of the location, which tells e.g. <code>C:/work</code> from <code>D:/work</code>
+	 * and <code>//server/work</code> from <code>/server/work</code>.
+	 */
+	private static String device(IPath location) {
+		String device = location.getDevice();
+		if (device != null) {
+			return key(device);
+		}
+		return location.isUNC() ? "//" : ""; //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * @return the project located at exactly the given location, or null if there is none.
+	 */
+	public static IProject findProject(IPath location) {
+		Node node = getRoot().children.get(device(location));
+		if (node == null) {
+			return null;
+		}
+		for (String segment : location.segments()) {
+			node = node.children.get(key(segment));
+			if (node == null) {
+				return null;
+			}
+		}
+		return node.project;
+	}
+
+	/**
+	 * Returns the handle of the file at the given location, within the innermost project containing the location.
+	 * Locations outside of all projects, e.g. within linked folders, are resolved by the workspace root.
+	 *
+	 * @return the file handle, which may not exist, or null if the location maps to no file of the workspace.
+	 */
+	public static IFile getFile(IPath location) {
+		Node node = getRoot().children.get(device(location));
+		IProject project = null;
+		int projectSegments = 0;
+		String[] segments = location.segments();
+		for (int i = 0; node != null && i < segments.length; i++) {
+			node = node.children.get(key(segments[i]));
+			if (node == null) {
+				break;
+			}
+			if (node.project != null) {
+				project = node.project;
+				projectSegments = i + 1;
+			}
+		}
+		if (project != null && projectSegments < segments.length) {
+			return project.getFile(location.removeFirstSegments(projectSegments).setDevice(null));
+		}
+		return ResourcesPlugin.getWorkspace().getRoot().getFileForLocation(location);
+	}
+}
@@ -23,4 +23,13 @@ public interface IPreferenceConstants {
 	
 	static final int DEFAULT_WINDUP_START_DURATION_TIMEOUT = 45000;
 	static final int DEFAULT_WINDUP_STOP_DURATION_TIMEOUT = 35000;
+	
+	static final String KANTRA_CONCURRENCY = "KANTRA_CONCURRENCY";
+	static final int DEFAULT_KANTRA_CONCURRENCY = 1;
+	
+	static final String KANTRA_CONSOLE_LEVEL = "KANTRA_CONSOLE_LEVEL";
+	static final String DEFAULT_KANTRA_CONSOLE_LEVEL = "INFO";
+	
+	static final String ISSUE_EXPLORER_VIRTUAL = "ISSUE_EXPLORER_VIRTUAL";
+	static final boolean DEFAULT_ISSUE_EXPLORER_VIRTUAL = true;
 }
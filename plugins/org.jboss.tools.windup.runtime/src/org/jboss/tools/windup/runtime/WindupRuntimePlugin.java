@@ -33,6 +33,7 @@ import org.eclipse.xtext.util.StringInputStream;
 import org.jboss.tools.common.util.PlatformUtil;
 import org.jboss.tools.common.xml.IMemento;
 import org.jboss.tools.common.xml.XMLMemento;
+import org.jboss.tools.windup.runtime.kantra.KantraLogLevel;
 import org.jboss.tools.windup.runtime.options.Help;
 import org.jboss.tools.windup.runtime.options.OptionDescription;
 import org.osgi.framework.BundleContext;
@@ -84,6 +85,28 @@ public class WindupRuntimePlugin extends Plugin {
 		return path;
 	}
 
+	/**
+	 * Returns the maximum number of kantra processes that may analyze the inputs of a configuration at once.
+	 */
+	public static int computeKantraConcurrency() {
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(WindupRuntimePlugin.PLUGIN_ID);
+		int concurrency = preferences.getInt(IPreferenceConstants.KANTRA_CONCURRENCY, IPreferenceConstants.DEFAULT_KANTRA_CONCURRENCY);
+		return Math.max(1, concurrency);
+	}
+
+	/**
+	 * Returns the lowest level of kantra's output shown in the console.
+	 */
+	public static KantraLogLevel computeKantraConsoleLevel() {
+		IEclipsePreferences preferences = InstanceScope.INSTANCE.getNode(WindupRuntimePlugin.PLUGIN_ID);
+		String level = preferences.get(IPreferenceConstants.KANTRA_CONSOLE_LEVEL, IPreferenceConstants.DEFAULT_KANTRA_CONSOLE_LEVEL);
+		try {
+			return KantraLogLevel.valueOf(level);
+		} catch (IllegalArgumentException e) {
+			return KantraLogLevel.valueOf(IPreferenceConstants.DEFAULT_KANTRA_CONSOLE_LEVEL);
+		}
+	}
+
 	public static String computeWindupExecutable() {
 		String location = WindupRuntimePlugin.computeWindupHome(); //$NON-NLS-1$ //$NON-NLS-2$
 //		if (PlatformUtil.isWindows()) {
@@ -177,6 +200,12 @@ public class WindupRuntimePlugin extends Plugin {
 		+ " 	<ui-type>SINGLE</ui-type>\n"
 		+ " 	<required>false</required>\n"
 		+ " </option>\n"
+		+ " <option name=\"incremental\">\n"
+		+ "		<description>If set, only analyze the inputs that changed since the last analysis.</description>\n"
+		+ "		<type>Boolean</type>\n"
+		+ " 	<ui-type>SINGLE</ui-type>\n"
+		+ " 	<required>false</required>\n"
+		+ " </option>\n"
 		+ " <option name=\"analyze-known-libraries\">\n"
 		+ "		<description>Analyze known open-source libraries.</description>\n"
 		+ "		<type>Boolean</type>\n"
@@ -0,0 +1,47 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.runtime.kantra;
+
+/**
+ * Severity of a line of kantra's output, as given by its <code>level=</code> field.
+ */
+public enum KantraLogLevel {
+
+	TRACE, DEBUG, INFO, WARNING, ERROR;
+
+	private static final String LEVEL_FIELD = "level="; //$NON-NLS-1$
+
+	/**
+	 * @return the level of the line, or null if the line has no level.
+	 */
+	public static KantraLogLevel of(String line) {
+		int start = line.indexOf(LEVEL_FIELD);
+		if (start < 0) {
+			return null;
+		}
+		start += LEVEL_FIELD.length();
+		int end = start;
+		while (end < line.length() && Character.isLetter(line.charAt(end))) {
+			end++;
+		}
+		switch (line.substring(start, end).toLowerCase()) {
+			case "trace": return TRACE; //$NON-NLS-1$
+			case "debug": return DEBUG; //$NON-NLS-1$
+			case "info": return INFO; //$NON-NLS-1$
+			case "warn": //$NON-NLS-1$
+			case "warning": return WARNING; //$NON-NLS-1$
+			case "error": //$NON-NLS-1$
+			case "fatal": //$NON-NLS-1$
+			case "panic": return ERROR; //$NON-NLS-1$
+			default: return null;
+		}
+	}
+
+	/**
+	 * Returns whether a line of the given level is to be shown at this level. Lines without a level are always shown.
+	 */
+	public boolean accepts(KantraLogLevel level) {
+		return level == null || level.compareTo(this) >= 0;
+	}
+}
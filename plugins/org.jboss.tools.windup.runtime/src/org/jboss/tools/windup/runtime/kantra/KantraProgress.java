@@ -0,0 +1,263 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.runtime.kantra;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Estimates the progress of an analysis from the output of its kantra processes.
+ *
+ * Each process goes through the phases of {@link Phase}, recognized by the messages kantra logs when entering them.
+ * Only log records are considered, and a phase is only entered by a message that starts the way kantra's message for
+ * that phase does, so that paths or rule names mentioned in other output don't skip phases.
+ * Progress within the rule evaluation is measured by the rulesets evaluated so far. The time spent in each phase
+ * is recorded, summed over all processes of the analysis.
+ */
+public class KantraProgress {
+
+	public enum Phase {
+		PROVIDERS("Starting providers", 0.15, //$NON-NLS-1$
+				"^(running (source|dependency)( code)? analysis|(starting|started|initializing|initialized) (the )?providers?\\b)"), //$NON-NLS-1$
+		RULES("Loading rules", 0.05, //$NON-NLS-1$
+				"^(loading|loaded|parsing|parsed) (the )?(rules|rule ?sets?)\\b"), //$NON-NLS-1$
+		EVALUATION("Evaluating rules", 0.7, //$NON-NLS-1$
+				"^(evaluating rules|running rules|processing rule ?set|(evaluating|running) rule ?set)\\b"), //$NON-NLS-1$
+		REPORT("Generating report", 0.1, //$NON-NLS-1$
+				"^(writing analysis results|generating (the )?(static )?report)\\b"); //$NON-NLS-1$
+
+		private final String label;
+		private final double weight;
+		// The message kantra logs when entering the phase.
+		private final Pattern message;
+
+		private Phase(String label, double weight, String message) {
+			this.label = label;
+			this.weight = weight;
+			this.message = Pattern.compile(message, Pattern.CASE_INSENSITIVE);
+		}
+
+		public String getLabel() {
+			return label;
+		}
+	}
+
+	// The message of a log record, e.g. time="..." level=info msg="running source code analysis".
+	private static final Pattern LEVEL = Pattern.compile("(?:^|\\s)level=\\w+"); //$NON-NLS-1$
+	private static final Pattern MESSAGE = Pattern.compile("(?:^|\\s)msg=(?:\"((?:[^\"\\\\]|\\\\.)*)\"|(\\S+))"); //$NON-NLS-1$
+	private static final Pattern RULESET = Pattern.compile("rule[sS]et(?:Name)?=\"?([^\"\\s]+)"); //$NON-NLS-1$
+	private static final Pattern RULESET_COUNT = Pattern.compile("(\\d+) rule ?sets", Pattern.CASE_INSENSITIVE); //$NON-NLS-1$
+
+	/**
+	 * Number of rulesets at which the evaluation is assumed half done, while the total number of rulesets is unknown.
+	 */
+	private static final int UNKNOWN_RULESETS_HALF = 20;
+
+	/**
+	 * Fraction below which no time remaining is estimated.
+	 */
+	private static final double MIN_ESTIMATE_FRACTION = 0.05;
+
+	/**
+	 * Progress of a single kantra process.
+	 */
+	private class Process implements Consumer<String> {
+
+		private Phase phase;
+		private long phaseStart;
+		private final Set<String> rulesets = Sets.newHashSet();
+		private int totalRulesets;
+		private boolean done;
+
+		@Override
+		public void accept(String line) {
+			String message = getMessage(line);
+			if (message == null) {
+				return;
+			}
+			synchronized (KantraProgress.this) {
+				if (done) {
+					return;
+				}
+				Phase next = recognize(message);
+				if (next != null && (phase == null || next.compareTo(phase) > 0)) {
+					enter(next);
+				}
+				if (phase == Phase.RULES || phase == Phase.EVALUATION) {
+					Matcher count = RULESET_COUNT.matcher(message);
+					if (count.find()) {
+						totalRulesets = Integer.parseInt(count.group(1));
+					}
+				}
+				if (phase == Phase.EVALUATION) {
+					Matcher ruleset = RULESET.matcher(line);
+					if (ruleset.find()) {
+						rulesets.add(ruleset.group(1));
+					}
+				}
+			}
+		}
+
+		private void enter(Phase next) {
+			long now = System.currentTimeMillis();
+			if (phase != null) {
+				record(phase, now - phaseStart);
+			}
+			phase = next;
+			phaseStart = now;
+		}
+
+		private void finish() {
+			if (!done) {
+				if (phase != null) {
+					record(phase, System.currentTimeMillis() - phaseStart);
+				}
+				done = true;
+			}
+		}
+
+		private double getFraction() {
+			if (done) {
+				return 1;
+			}
+			if (phase == null) {
+				return 0;
+			}
+			double fraction = 0;
+			for (Phase previous : Phase.values()) {
+				if (previous == phase) {
+					break;
+				}
+				fraction += previous.weight;
+			}
+			if (phase == Phase.EVALUATION) {
+				int evaluated = rulesets.size();
+				double within = totalRulesets > 0
+						? Math.min(1, (double)evaluated / totalRulesets)
+						: (double)evaluated / (evaluated + UNKNOWN_RULESETS_HALF);
+				fraction += phase.weight * within;
+			}
+			return fraction;
+		}
+	}
+
+	private final int processCount;
+	private final long start = System.currentTimeMillis();
+	private final List<Process> processes = Lists.newArrayList();
+	private final Map<Phase, Long> timings = new EnumMap<Phase, Long>(Phase.class);
+
+	/**
+	 * @param processCount the number of kantra processes the analysis runs.
+	 */
+	public KantraProgress(int processCount) {
+		this.processCount = Math.max(1, processCount);
+	}
+
+	/**
+	 * Returns the consumer of the output of a new kantra process of the analysis.
+	 */
+	public synchronized Consumer<String> newProcess() {
+		Process process = new Process();
+		processes.add(process);
+		return process;
+	}
+
+	/**
+	 * Marks the process reading the given consumer's output as terminated.
+	 */
+	public synchronized void processTerminated(Consumer<String> process) {
+		((Process)process).finish();
+	}
+
+	/**
+	 * Returns the message of the log record, or null if the line isn't a log record.
+	 */
+	private static String getMessage(String line) {
+		if (!LEVEL.matcher(line).find()) {
+			return null;
+		}
+		Matcher matcher = MESSAGE.matcher(line);
+		if (matcher.find()) {
+			return (matcher.group(1) != null ? matcher.group(1) : matcher.group(2)).trim();
+		}
+		return null;
+	}
+
+	private static Phase recognize(String message) {
+		for (Phase phase : Phase.values()) {
+			if (phase.message.matcher(message).find()) {
+				return phase;
+			}
+		}
+		return null;
+	}
+
+	private void record(Phase phase, long duration) {
+		timings.merge(phase, duration, Long::sum);
+	}
+
+	/**
+	 * Returns the fraction of the analysis done, between 0 and 1.
+	 */
+	public synchronized double getFraction() {
+		double fraction = 0;
+		for (Process process : processes) {
+			fraction += process.getFraction();
+		}
+		return Math.min(1, fraction / processCount);
+	}
+
+	/**
+	 * Returns the phase of the most recently started process that is still running, or null if none is.
+	 */
+	public synchronized Phase getPhase() {
+		for (int i = processes.size() - 1; i >= 0; i--) {
+			Process process = processes.get(i);
+			if (!process.done && process.phase != null) {
+				return process.phase;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns the estimated number of milliseconds until the analysis completes, or -1 if it can't be estimated yet.
+	 */
+	public long getRemainingTime() {
+		double fraction = getFraction();
+		if (fraction < MIN_ESTIMATE_FRACTION || fraction >= 1) {
+			return -1;
+		}
+		long elapsed = System.currentTimeMillis() - start;
+		return (long)(elapsed * (1 - fraction) / fraction);
+	}
+
+	/**
+	 * Returns the milliseconds spent in each phase, summed over all terminated or advanced processes.
+	 */
+	public synchronized Map<Phase, Long> getTimings() {
+		return new EnumMap<Phase, Long>(timings);
+	}
+
+	/**
+	 * Describes the time spent in each phase, e.g. for the log.
+	 */
+	public synchronized String getTimingSummary() {
+		StringBuilder summary = new StringBuilder("kantra phases:"); //$NON-NLS-1$
+		for (Map.Entry<Phase, Long> entry : timings.entrySet()) {
+			summary.append(' ').append(entry.getKey().getLabel()).append(' ')
+				.append(String.format("%.1fs", entry.getValue() / 1000d)).append(';'); //$NON-NLS-1$
+		}
+		summary.append(" total ").append(String.format("%.1fs", (System.currentTimeMillis() - start) / 1000d)); //$NON-NLS-1$ //$NON-NLS-2$
+		return summary.toString();
+	}
+}
@@ -9,6 +9,8 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
 import org.apache.commons.exec.CommandLine;
@@ -19,15 +21,38 @@ import org.apache.commons.exec.ExecuteWatchdog;
 import org.apache.commons.exec.LogOutputStream;
 import org.apache.commons.exec.PumpStreamHandler;
 import org.jboss.tools.windup.runtime.WindupRuntimePlugin;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
 public class KantraRunner {
 	
+	/**
+	 * Maximum number of error lines of a kantra process copied to the error log. The console shows all of them.
+	 */
+	private static final int MAX_LOGGED_ERRORS = 20;
+	
 	private ExecuteWatchdog watchdog;
+	private KantraProgress progress;
+	
+	private final AtomicInteger lineCount = new AtomicInteger();
+	private final AtomicInteger errorCount = new AtomicInteger();
 	
-	public void runKantra(String cli, Set<String> inputs, String output, List<String> sources, List<String> targets, List<String> rules, boolean analyzeKnownLibraries, Consumer<String> onMessage, Consumer<Boolean> onComplete, Consumer<String> onFailed) {
+	/**
+	 * Reports the progress of the processes launched by this runner to the given analysis progress.
+	 */
+	public void setProgress(KantraProgress progress) {
+		this.progress = progress;
+	}
+	
+	/**
+	 * Launches <code>kantra analyze</code> asynchronously.
+	 * 
+	 * @return a future completed with the process' exit value once kantra terminates, or completed
+	 * exceptionally if the process failed. Cancelling the future destroys the kantra process.
+	 */
+	public CompletableFuture<Integer> runKantra(String cli, Set<String> inputs, String output, List<String> sources, List<String> targets, List<String> rules, boolean analyzeKnownLibraries, Consumer<String> onMessage) {
 		logInfo("Begin start kantra."); //$NON-NLS-1$
 		
 		// todo: compute or parameterize from configuration
@@ -72,25 +97,46 @@ public class KantraRunner {
 		
 		cmdLine.addArguments(params.toArray(new String[params.size()]), true);
 		
+		Consumer<String> tracker = progress != null ? progress.newProcess() : null;
+		AnalysisMetrics.Timer timer = AnalysisMetrics.time("kantra process").count("inputs", inputs.size()); //$NON-NLS-1$ //$NON-NLS-2$
+		CompletableFuture<Integer> result = new CompletableFuture<Integer>();
+		result.whenComplete((exitValue, e) -> {
+			timer.count("lines", lineCount.get()).count("errors", errorCount.get()).close(); //$NON-NLS-1$ //$NON-NLS-2$
+			if (tracker != null) {
+				progress.processTerminated(tracker);
+			}
+			logSummary();
+			if (result.isCancelled()) {
+				logInfo("kantra process cancelled."); //$NON-NLS-1$
+				kill();
+			}
+		});
+		
 		watchdog = new ExecuteWatchdog(ExecuteWatchdog.INFINITE_TIMEOUT);
 		ExecuteResultHandler handler = new ExecuteResultHandler() {
 			@Override
 			public void onProcessFailed(ExecuteException e) {
 				logInfo("kantra process failed:"); //$NON-NLS-1$
 				logInfo(e.getMessage()); //$NON-NLS-1$
-				onFailed.accept(e.getMessage());
+				result.completeExceptionally(e);
 			}
 			@Override
 			public void onProcessComplete(int exitValue) {
 				logInfo("kantra process has completed."); //$NON-NLS-1$
-				onComplete.accept(true);
+				result.complete(exitValue);
 			}
 		};
 		DefaultExecutor executor = new DefaultExecutor();
 		executor.setStreamHandler(new PumpStreamHandler(new LogOutputStream() {
 			@Override
 			protected void processLine(String line, int logLevel) {
-				logInfo("kantra output: " + line); //$NON-NLS-1$
+				lineCount.incrementAndGet();
+				if (KantraLogLevel.of(line) == KantraLogLevel.ERROR && errorCount.incrementAndGet() <= MAX_LOGGED_ERRORS) {
+					logInfo("kantra output: " + line); //$NON-NLS-1$
+				}
+				if (tracker != null) {
+					tracker.accept(line);
+				}
 				onMessage.accept(line);
 			}
 		}));
@@ -109,7 +155,21 @@ public class KantraRunner {
 			executor.execute(cmdLine, env, handler);
 		} catch (IOException e) {
 			WindupRuntimePlugin.log(e);
+			result.completeExceptionally(e);
+		}
+		return result;
+	}
+	
+	/**
+	 * Logs how much output the process produced, instead of logging every line.
+	 */
+	private void logSummary() {
+		int errors = errorCount.get();
+		String summary = "kantra output: " + lineCount.get() + " lines, " + errors + " errors"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		if (errors > MAX_LOGGED_ERRORS) {
+			summary += " (" + (errors - MAX_LOGGED_ERRORS) + " not logged, see the kantra console)"; //$NON-NLS-1$ //$NON-NLS-2$
 		}
+		logInfo(summary);
 	}
 	
 	public void kill() {
@@ -0,0 +1,121 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.runtime.kantra;
+
+import static org.jboss.tools.windup.runtime.WindupRuntimePlugin.logInfo;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Runs one kantra process per input, with at most a fixed number of processes running at once.
+ *
+ * Each input is analyzed into its own sub-directory of the output location, see {@link #getOutputLocation(String, String)}.
+ */
+public class KantraScheduler {
+
+	private static final String INPUTS_DIRECTORY = "inputs"; //$NON-NLS-1$
+
+	private final int concurrency;
+	private final List<CompletableFuture<Integer>> running = Lists.newArrayList();
+	private volatile boolean cancelled;
+	private KantraProgress progress;
+
+	public KantraScheduler(int concurrency) {
+		this.concurrency = Math.max(1, concurrency);
+	}
+
+	/**
+	 * Reports the progress of all kantra processes to the given analysis progress.
+	 */
+	public void setProgress(KantraProgress progress) {
+		this.progress = progress;
+	}
+
+	/**
+	 * Returns the location kantra writes the results of the given input to when the input is analyzed on its own.
+	 */
+	public static String getOutputLocation(String output, String input) {
+		String name = new File(input).getName() + "-" + Integer.toHexString(input.hashCode()); //$NON-NLS-1$
+		return output + File.separator + INPUTS_DIRECTORY + File.separator + name;
+	}
+
+	/**
+	 * Launches the analysis of every input.
+	 *
+	 * @return a future completed with the inputs that were successfully analyzed once all kantra processes have terminated.
+	 * A failed input does not prevent the remaining inputs from being analyzed. Cancelling the future destroys all running
+	 * kantra processes.
+	 */
+	public CompletableFuture<List<String>> runKantra(String cli, List<String> inputs, String output, List<String> sources, List<String> targets, List<String> rules, boolean analyzeKnownLibraries, Consumer<String> onMessage) {
+		Queue<String> pending = new ConcurrentLinkedQueue<String>(inputs);
+		List<String> analyzed = Collections.synchronizedList(Lists.newArrayList());
+		List<CompletableFuture<Void>> workers = Lists.newArrayList();
+		for (int i = 0; i < Math.min(concurrency, inputs.size()); i++) {
+			workers.add(next(pending, analyzed, cli, output, sources, targets, rules, analyzeKnownLibraries, onMessage));
+		}
+		CompletableFuture<List<String>> result = new CompletableFuture<List<String>>();
+		CompletableFuture.allOf(workers.toArray(new CompletableFuture[workers.size()])).whenComplete((v, e) -> {
+			result.complete(Lists.newArrayList(analyzed));
+		});
+		result.whenComplete((v, e) -> {
+			if (result.isCancelled()) {
+				cancel();
+			}
+		});
+		return result;
+	}
+
+	/**
+	 * Analyzes the next pending input, and keeps doing so until no inputs are left.
+	 */
+	private CompletableFuture<Void> next(Queue<String> pending, List<String> analyzed, String cli, String output, List<String> sources, List<String> targets, List<String> rules, boolean analyzeKnownLibraries, Consumer<String> onMessage) {
+		String input = pending.poll();
+		if (input == null || cancelled) {
+			return CompletableFuture.completedFuture(null);
+		}
+		String inputOutput = getOutputLocation(output, input);
+		new File(inputOutput).mkdirs();
+		logInfo("Scheduling kantra for input: " + input); //$NON-NLS-1$
+		KantraRunner runner = new KantraRunner();
+		runner.setProgress(progress);
+		CompletableFuture<Integer> kantra = runner.runKantra(cli, Collections.singleton(input), inputOutput,
+				sources, targets, rules, analyzeKnownLibraries, onMessage);
+		synchronized (running) {
+			running.add(kantra);
+			// cancel() may have taken its snapshot of the running processes while this one was starting.
+			if (cancelled) {
+				kantra.cancel(true);
+			}
+		}
+		return kantra.handle((exitValue, e) -> {
+			synchronized (running) {
+				running.remove(kantra);
+			}
+			if (e != null) {
+				logInfo("kantra failed for input " + input + ": " + e.getMessage()); //$NON-NLS-1$ //$NON-NLS-2$
+			}
+			else {
+				analyzed.add(input);
+			}
+			return null;
+		}).thenCompose(v -> next(pending, analyzed, cli, output, sources, targets, rules, analyzeKnownLibraries, onMessage));
+	}
+
+	private void cancel() {
+		cancelled = true;
+		List<CompletableFuture<Integer>> processes;
+		synchronized (running) {
+			processes = Lists.newArrayList(running);
+		}
+		processes.forEach(process -> process.cancel(true));
+	}
+}
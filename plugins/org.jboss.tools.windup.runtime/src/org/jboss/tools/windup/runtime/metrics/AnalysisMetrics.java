@@ -0,0 +1,243 @@
+/*---------------------------------------------------------------------------------------------
+ *  Copyright (c) Red Hat. All rights reserved.
+ *--------------------------------------------------------------------------------------------*/
+package org.jboss.tools.windup.runtime.metrics;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Durations, item counts and heap deltas of the stages of an analysis, from launching kantra to showing the markers.
+ *
+ * A run is started when an analysis is launched and stays the last run until the next one is started, so stages
+ * completing asynchronously, e.g. building the Issue Explorer's tree, are still attributed to it. Stages timed while
+ * no run was started are discarded.
+ * <pre>
+ * try (AnalysisMetrics.Timer timer = AnalysisMetrics.time("Parse results")) {
+ *     ...
+ *     timer.count("incidents", incidents);
+ * }
+ * </pre>
+ * Heap deltas are the difference of the used heap before and after a stage, and include the garbage created by
+ * stages running at the same time.
+ */
+public class AnalysisMetrics {
+
+	public static class Stage {
+
+		private final String name;
+		private final long offset;
+		private final long duration;
+		private final long heapDelta;
+		private final Map<String, Long> counters;
+
+		private Stage(String name, long offset, long duration, long heapDelta, Map<String, Long> counters) {
+			this.name = name;
+			this.offset = offset;
+			this.duration = duration;
+			this.heapDelta = heapDelta;
+			this.counters = counters;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the milliseconds from the start of the run to the start of this stage.
+		 */
+		public long getOffset() {
+			return offset;
+		}
+
+		public long getDuration() {
+			return duration;
+		}
+
+		/**
+		 * Returns the change of the used heap in bytes during the stage, or 0 if unknown.
+		 */
+		public long getHeapDelta() {
+			return heapDelta;
+		}
+
+		public Map<String, Long> getCounters() {
+			return Collections.unmodifiableMap(counters);
+		}
+	}
+
+	/**
+	 * Times a stage from its creation until it is closed.
+	 */
+	public static class Timer implements AutoCloseable {
+
+		private final AnalysisMetrics run;
+		private final String name;
+		private final long start = System.currentTimeMillis();
+		private final long heap = usedHeap();
+		private final Map<String, Long> counters = Maps.newLinkedHashMap();
+		private boolean closed;
+
+		private Timer(AnalysisMetrics run, String name) {
+			this.run = run;
+			this.name = name;
+		}
+
+		/**
+		 * Adds to the number of items of the given kind processed by the stage.
+		 */
+		public synchronized Timer count(String counter, long items) {
+			counters.merge(counter, items, Long::sum);
+			return this;
+		}
+
+		@Override
+		public synchronized void close() {
+			if (!closed && run != null) {
+				closed = true;
+				run.add(new Stage(name, start - run.startTime, System.currentTimeMillis() - start,
+						usedHeap() - heap, Maps.newLinkedHashMap(counters)));
+			}
+		}
+	}
+
+	private static volatile AnalysisMetrics last;
+	private static final List<Runnable> listeners = new CopyOnWriteArrayList<Runnable>();
+
+	private final String name;
+	private final long startTime = System.currentTimeMillis();
+	private final List<Stage> stages = Lists.newArrayList();
+
+	private AnalysisMetrics(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Starts a new run, which becomes the last run.
+	 */
+	public static AnalysisMetrics start(String name) {
+		AnalysisMetrics run = new AnalysisMetrics(name);
+		last = run;
+		notifyListeners();
+		return run;
+	}
+
+	/**
+	 * Returns the last run, or null if no analysis was launched yet.
+	 */
+	public static AnalysisMetrics getLast() {
+		return last;
+	}
+
+	/**
+	 * Starts timing a stage of the last run.
+	 */
+	public static Timer time(String stage) {
+		return new Timer(last, stage);
+	}
+
+	/**
+	 * Records a stage of the last run that was timed elsewhere, e.g. from the output of kantra.
+	 */
+	public static void record(String stage, long duration) {
+		AnalysisMetrics run = last;
+		if (run != null) {
+			run.add(new Stage(stage, -1, duration, 0, Maps.newLinkedHashMap()));
+		}
+	}
+
+	/**
+	 * Registers a listener notified, on any thread, when a run is started or a stage was recorded.
+	 */
+	public static void addListener(Runnable listener) {
+		listeners.add(listener);
+	}
+
+	public static void removeListener(Runnable listener) {
+		listeners.remove(listener);
+	}
+
+	private static void notifyListeners() {
+		listeners.forEach(Runnable::run);
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	private void add(Stage stage) {
+		synchronized (stages) {
+			stages.add(stage);
+		}
+		notifyListeners();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public long getStartTime() {
+		return startTime;
+	}
+
+	public List<Stage> getStages() {
+		synchronized (stages) {
+			return Lists.newArrayList(stages);
+		}
+	}
+
+	/**
+	 * Returns the run as a JSON document.
+	 */
+	public String toJson() {
+		StringBuilder json = new StringBuilder();
+		json.append("{\n  \"name\": ").append(quote(name)); //$NON-NLS-1$
+		json.append(",\n  \"startTime\": ").append(startTime); //$NON-NLS-1$
+		json.append(",\n  \"stages\": ["); //$NON-NLS-1$
+		List<Stage> all = getStages();
+		for (int i = 0; i < all.size(); i++) {
+			Stage stage = all.get(i);
+			json.append(i == 0 ? "\n" : ",\n"); //$NON-NLS-1$ //$NON-NLS-2$
+			json.append("    {\"name\": ").append(quote(stage.name)); //$NON-NLS-1$
+			json.append(", \"offset\": ").append(stage.offset); //$NON-NLS-1$
+			json.append(", \"duration\": ").append(stage.duration); //$NON-NLS-1$
+			json.append(", \"heapDelta\": ").append(stage.heapDelta); //$NON-NLS-1$
+			json.append(", \"counters\": {"); //$NON-NLS-1$
+			String separator = ""; //$NON-NLS-1$
+			for (Map.Entry<String, Long> counter : stage.counters.entrySet()) {
+				json.append(separator).append(quote(counter.getKey())).append(": ").append(counter.getValue()); //$NON-NLS-1$
+				separator = ", "; //$NON-NLS-1$
+			}
+			json.append("}}"); //$NON-NLS-1$
+		}
+		json.append(all.isEmpty() ? "]\n}\n" : "\n  ]\n}\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		return json.toString();
+	}
+
+	private static String quote(String value) {
+		StringBuilder quoted = new StringBuilder("\""); //$NON-NLS-1$
+		for (char c : value.toCharArray()) {
+			switch (c) {
+				case '"': quoted.append("\\\""); break; //$NON-NLS-1$
+				case '\\': quoted.append("\\\\"); break; //$NON-NLS-1$
+				case '\n': quoted.append("\\n"); break; //$NON-NLS-1$
+				case '\r': quoted.append("\\r"); break; //$NON-NLS-1$
+				case '\t': quoted.append("\\t"); break; //$NON-NLS-1$
+				default:
+					if (c < 0x20) {
+						quoted.append(String.format("\\u%04x", (int)c)); //$NON-NLS-1$
+					}
+					else {
+						quoted.append(c);
+					}
+			}
+		}
+		return quoted.append('"').toString();
+	}
+}
@@ -49,6 +49,9 @@ public class Messages extends NLS
 	
 	public static String WindupPreferenceHome;
 	public static String WindupPreferenceRmiPort;
+	public static String WindupPreferenceKantraConcurrency;
+	public static String WindupPreferenceVirtualExplorer;
+	public static String WindupPreferenceKantraConsoleLevel;
 	public static String WindupPreferenceJRE;
 	
 	public static String WindupPreferenceStartTimeoutDuration;
@@ -286,6 +289,18 @@ public class Messages extends NLS
     
     public static String launchErrorTitle;
     public static String launchErrorMessage;
+    public static String kantraProgress;
+    public static String kantraProgressRemaining;
+    public static String kantraProgressSeconds;
+    public static String kantraProgressMinutes;
+    public static String analysisPerformanceNoRun;
+    public static String analysisPerformanceRun;
+    public static String analysisPerformanceExport;
+    public static String analysisPerformanceStage;
+    public static String analysisPerformanceStart;
+    public static String analysisPerformanceDuration;
+    public static String analysisPerformanceHeap;
+    public static String analysisPerformanceCounts;
     
     public static String markersCreateError;
     public static String applyQuickFixError;
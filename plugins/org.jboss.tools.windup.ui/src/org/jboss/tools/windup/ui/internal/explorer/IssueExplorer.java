@@ -13,26 +13,30 @@ package org.jboss.tools.windup.ui.internal.explorer;
 import static org.jboss.tools.windup.model.domain.WindupConstants.GROUPS_CHANGED;
 
 import java.io.File;
+import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Set;
 
 import jakarta.inject.Inject;
 
-import org.eclipse.core.resources.IContainer;
 import org.eclipse.core.resources.IMarker;
-import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IMarkerDelta;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.core.runtime.preferences.InstanceScope;
 import org.eclipse.e4.core.contexts.IEclipseContext;
 import org.eclipse.e4.core.di.annotations.Optional;
 import org.eclipse.e4.core.services.events.IEventBroker;
 import org.eclipse.e4.ui.di.UIEventTopic;
 import org.eclipse.e4.ui.model.application.MApplication;
 import org.eclipse.e4.ui.workbench.modeling.EPartService;
-import org.eclipse.jdt.core.IOpenable;
 import org.eclipse.jface.dialogs.MessageDialog;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
@@ -40,14 +44,12 @@ import org.eclipse.jface.preference.JFacePreferences;
 import org.eclipse.jface.preference.PreferenceDialog;
 import org.eclipse.jface.resource.JFaceResources;
 import org.eclipse.jface.viewers.DoubleClickEvent;
+import org.eclipse.jface.viewers.IContentProvider;
 import org.eclipse.jface.viewers.IDoubleClickListener;
 import org.eclipse.jface.viewers.ISelection;
 import org.eclipse.jface.viewers.IStructuredSelection;
 import org.eclipse.jface.viewers.StructuredSelection;
-import org.eclipse.jface.viewers.StyledString;
 import org.eclipse.jface.viewers.TreePath;
-import org.eclipse.jface.viewers.Viewer;
-import org.eclipse.jface.viewers.ViewerFilter;
 import org.eclipse.swt.SWT;
 import org.eclipse.swt.events.ModifyListener;
 import org.eclipse.swt.events.SelectionAdapter;
@@ -70,14 +72,14 @@ import org.eclipse.ui.progress.UIJob;
 import org.jboss.tools.windup.model.domain.KantraConfiguration;
 import org.jboss.tools.windup.model.domain.ModelService;
 import org.jboss.tools.windup.model.domain.WindupConstants;
+import org.jboss.tools.windup.model.domain.WindupMarker;
+import org.jboss.tools.windup.runtime.IPreferenceConstants;
 import org.jboss.tools.windup.runtime.WindupRmiClient;
 import org.jboss.tools.windup.runtime.WindupRuntimePlugin;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.Messages;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.ReportNode;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.RootReportNode;
-import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.RuleGroupNode;
-import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.SeverityNode;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
 import org.jboss.tools.windup.ui.internal.intro.ShowGettingStartedAction;
 import org.jboss.tools.windup.ui.internal.launch.RHAMTStartupFailedDialog;
@@ -94,6 +96,7 @@ import org.osgi.service.event.EventHandler;
 
 import com.google.common.base.Objects;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 /**
  * Explorer view for displaying and navigating Windup issues, classifications, etc. 
@@ -118,6 +121,10 @@ public class IssueExplorer extends CommonNavigator {
 	
 	private Text searchText;
 	
+	// In virtual mode, creates tree items only for the visible rows in place of the navigator's content provider.
+	private IssueExplorerLazyContentProvider lazyContentProvider;
+	private IContentProvider navigatorContentProvider;
+	
 	public IssueExplorer() {
 		IssueExplorer.current = this;
 	}
@@ -135,18 +142,39 @@ public class IssueExplorer extends CommonNavigator {
 		// The primary issue with calling super.refresh is it will cause IssueExplorer's tree nodes
 		// to collapse.
 		IssueExplorer.current = this;
+		boolean virtual = InstanceScope.INSTANCE.getNode(WindupRuntimePlugin.PLUGIN_ID).getBoolean(
+				IPreferenceConstants.ISSUE_EXPLORER_VIRTUAL, IPreferenceConstants.DEFAULT_ISSUE_EXPLORER_VIRTUAL);
+		int style = SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL;
 		CommonViewer viewer = new CommonViewer(getViewSite().getId(), aParent,
-				SWT.MULTI | SWT.H_SCROLL | SWT.V_SCROLL) {
+				virtual ? style | SWT.VIRTUAL : style) {
 			@Override
 			public void add(Object parentElement, Object... childElements) {
-				super.add(parentElement, childElements);
+				if (lazyContentProvider == null) {
+					super.add(parentElement, childElements);
+				}
 				super.refresh(parentElement);
 			}
+			@Override
+			protected void internalRefresh(Object element, boolean updateLabels) {
+				if (lazyContentProvider != null) {
+					lazyContentProvider.invalidate();
+				}
+				super.internalRefresh(element, updateLabels);
+			}
 		};
-		viewer.setUseHashlookup(false);
+		// Nodes are compared by identity, so the items of updated nodes can be looked up in a map.
+		viewer.setUseHashlookup(true);
 		return viewer;
 	}
 	
+	/**
+	 * Returns the content provider of the navigator framework, which resolves the parents of resources 
+	 * whether or not the explorer is in virtual mode.
+	 */
+	public IContentProvider getNavigatorContentProvider() {
+		return navigatorContentProvider;
+	}
+	
 	@SuppressWarnings("unchecked")
 	public TreeNode computeNode(IResource resource) {
 		TreeNode node = contentService.findResourceNode(resource);
@@ -206,7 +234,24 @@ public class IssueExplorer extends CommonNavigator {
 		aParent.setBackground(Display.getDefault().getSystemColor(SWT.COLOR_WHITE));
 		GridDataFactory.fillDefaults().grab(true, true).align(SWT.FILL, SWT.FILL).span(2, 1).indent(0, 5).applyTo(getCommonViewer().getControl());
 		
-		getCommonViewer().addFilter(getRuleFilter());
+		filter = new IssueExplorerFilter(getCommonViewer(), contentService::getRoot, 
+				filterLabelProvider::getFilterLabel, () -> {
+			getCommonViewer().refresh();
+			if (lazyContentProvider != null) {
+				// Expanding all of a virtual tree would create an item for every matching issue.
+				getCommonViewer().expandToLevel(FILTER_EXPAND_LEVEL);
+			}
+			else {
+				getCommonViewer().expandAll();
+			}
+		});
+		getCommonViewer().addFilter(filter);
+		
+		navigatorContentProvider = getCommonViewer().getContentProvider();
+		if ((getCommonViewer().getTree().getStyle() & SWT.VIRTUAL) != 0) {
+			lazyContentProvider = new IssueExplorerLazyContentProvider(getCommonViewer(), contentService, filter);
+			getCommonViewer().setContentProvider(lazyContentProvider);
+		}
 		
 		getCommonViewer().addDoubleClickListener(new OpenIssueListener());
 		getCommonViewer().addDoubleClickListener(new OpenReportListener());
@@ -237,6 +282,7 @@ public class IssueExplorer extends CommonNavigator {
 			}
 		});
 		getCommonViewer().setComparator(new IssueExplorerComparator());
+		ResourcesPlugin.getWorkspace().addResourceChangeListener(markerListener, IResourceChangeEvent.POST_CHANGE);
 //		getServiceContext().set(IssueExplorerService.class, explorerSerivce);
 //		broker.subscribe(GROUPS_CHANGED, groupsChangedHandler);
 		initGettingStarted();
@@ -444,101 +490,41 @@ public class IssueExplorer extends CommonNavigator {
 	}
 
 	private ModifyListener onSearch() {
-		return e -> {
-			getCommonViewer().refresh();
-			getCommonViewer().expandAll();
-		};
+		return e -> filter.setQuery(searchText.getText());
 	}
 	
 	// Creating local copy here b/c we cannot get a reference to the one. 
 	private IssueExplorerLabelProvider filterLabelProvider = new IssueExplorerLabelProvider();
 	
-	private ViewerFilter getRuleFilter() {
-		return new ViewerFilter() {
-			@Override
-			public boolean select(Viewer viewer, Object parentElement,
-					Object element) {
-				if (element instanceof TreeNode) {
-					return containsFilterNode((TreeNode)element, parentElement);
-				}
-				return false; 
-			}
-		};
-	}
-	
-	private boolean doesParentMatchFilter(TreeNode treeNode) {
-		if (isFilterMatch(treeNode)) {
-			return true;
-		}
-		if (treeNode.getParent() != null) {
-			TreeNode parentNode = treeNode.getParent();
-			if ((parentNode instanceof RuleGroupNode || parentNode.getSegment() instanceof IResource ||
-					parentNode instanceof SeverityNode || parentNode.getSegment() instanceof IOpenable || parentNode.getSegment() instanceof IContainer) &&
-					!(parentNode.getSegment() instanceof IProject)) {
-				return doesParentMatchFilter(treeNode.getParent());
-			}
-		}
-		return false;
-	}
+	private IssueExplorerFilter filter;
 	
-	private boolean containsFilterNode(TreeNode treeNode, Object parentElement) {
-		
-		if (isFilterMatch(treeNode)) {
-			return true;
-		}
-		
-		if (treeNode instanceof MarkerNode) {
-			if (doesParentMatchFilter(treeNode)) {
-				return true;
-			}
-		}
-		
-		if (treeNode instanceof ReportNode || treeNode instanceof RootReportNode) {
-			TreeNode parentNode = treeNode.getParent();
-			if (parentNode.getSegment() instanceof IResource) {
-				IResource resource = (IResource)parentNode.getSegment();
-				TreeNode resourceNode = contentService.findResourceNode(resource);
-				List<TreeNode> children = resourceNode.getChildren().stream().filter(node -> {
-					return !Objects.equal(node, treeNode);
-				}).collect(Collectors.toList());
-				for (TreeNode childNode : children) {
-					if (containsFilterNode(childNode, parentElement)) {
-						return true;
-					}
-				}
-			}
-			return false;
-		}
-		
-		for (TreeNode child : treeNode.getChildren()) {
-			if (containsFilterNode(child, parentElement)) {
-				return true;
-			}
-		}
-		
-		return false;
-	}
+	/**
+	 * Number of levels expanded in a virtual tree once it is filtered, which reveals the first matches down to
+	 * the files they are in.
+	 */
+	private static final int FILTER_EXPAND_LEVEL = 4;
 	
+	// The search text and its matcher, reused since the matcher is looked up for every label being rendered.
+	private static volatile Object[] filterMatcher = new Object[2];
+
 	public static StringMatcher getFilterMatcher(String text) {
+		Object[] cached = filterMatcher;
+		if (text.equals(cached[0])) {
+			return (StringMatcher)cached[1];
+		}
 		String pattern = text + "*";
 		// Include leading wild cards.
 		if (!(text.charAt(0) == '*')) {
 			pattern = "*" + pattern;
 		}
-		return new StringMatcher(pattern, true, false);
-	}
-	
-	private boolean isFilterMatch(TreeNode node) {
-		String text = searchText.getText();
-		if (text.trim().isEmpty()) {
-			return true;
-		}
-		
-		String nodeText = ((StyledString)filterLabelProvider.getStyledText(node)).getString();
-		return getFilterMatcher(text).match(nodeText);
+		StringMatcher matcher = new StringMatcher(pattern, true, false);
+		filterMatcher = new Object[] {text, matcher};
+		return matcher;
 	}
 	
 	public void clear() {
+		contentService.invalidate();
+		filter.invalidate();
 		getCommonViewer().getTree().removeAll();
 		getCommonViewer().setSelection(StructuredSelection.EMPTY);
 		
@@ -547,43 +533,104 @@ public class IssueExplorer extends CommonNavigator {
 	}
 	
 	public void buildTree()	{
+		rebuildJob.cancel();
+		contentService.invalidate();
 		refresh();
+		filter.invalidate();
 		boolean visible = getCommonViewer().getTree().getItemCount() > 0;
 		searchText.setVisible(visible);
 	}
 	
 	public void delete(Issue issue) {
 		IMarker marker = (IMarker)issue.getMarker();
-		MarkerNode markerNode = contentService.findMarkerNode(marker);
-		if (markerNode != null) {
-			getCommonViewer().remove(markerNode);
-			TreeNode parent = markerNode.getParent();
-			Object segment = markerNode.getSegment();
-			while (parent != null) {
-				TreeNode childNode = parent.getChildPath(segment);
-				getCommonViewer().remove(childNode);
-				parent.removeChild(segment);
-				getCommonViewer().refresh(parent, true);
-				if (isEmptyParent(parent)) {
-					segment = parent.getSegment();
-					parent = parent.getParent();
-				}
-				else if (parent.getChildren().isEmpty()) {
-					segment = parent.getSegment();
-					parent = parent.getParent();
-				}
-				else {
-					break;
-				}
-			}
+		TreeNode changed = contentService.remove(marker);
+		if (changed != null) {
+			refresh(Sets.newHashSet(changed));
 		}
 		boolean visible = getCommonViewer().getTree().getItemCount() > 0;
 		searchText.setVisible(visible);
 	}
 	
-	private boolean isEmptyParent(TreeNode node) {
-		return (!node.getChildren().isEmpty() && node.getChildren().size() == 1 &&
-			(node.getChildren().get(0) instanceof ReportNode || node.getChildren().get(0) instanceof RootReportNode));
+	/**
+	 * Applies the creation, deletion, and modification of Windup markers to the current tree in place, 
+	 * refreshing only the affected subtrees.
+	 */
+	private IResourceChangeListener markerListener = event -> {
+		List<IMarkerDelta> deltas = Lists.newArrayList(event.findMarkerDeltas(WindupMarker.WINDUP_HINT_MARKER_ID, true));
+		deltas.addAll(Arrays.asList(event.findMarkerDeltas(WindupMarker.WINDUP_CLASSIFICATION_MARKER_ID, true)));
+		if (!deltas.isEmpty()) {
+			Display.getDefault().asyncExec(() -> applyMarkerDeltas(deltas));
+		}
+	};
+	
+	/**
+	 * Number of marker changes above which the tree is rebuilt rather than updated in place.
+	 */
+	private static final int MAX_MARKER_DELTAS = 1000;
+	
+	/**
+	 * Delay before rebuilding the tree after large marker changes, so that consecutive batches 
+	 * of changes result in a single rebuild.
+	 */
+	private static final int REBUILD_DELAY = 250;
+	
+	private Job rebuildJob = new UIJob(Messages.generateIssues) {
+		@Override
+		public IStatus runInUIThread(IProgressMonitor monitor) {
+			if (getCommonViewer() != null && !getCommonViewer().getTree().isDisposed()) {
+				buildTree();
+			}
+			return Status.OK_STATUS;
+		}
+	};
+	
+	private void applyMarkerDeltas(List<IMarkerDelta> deltas) {
+		if (getCommonViewer() == null || getCommonViewer().getTree().isDisposed() || !contentService.isBuilt()) {
+			return;
+		}
+		if (deltas.size() > MAX_MARKER_DELTAS) {
+			contentService.invalidate();
+			rebuildJob.schedule(REBUILD_DELAY);
+			return;
+		}
+		Set<TreeNode> changed = Sets.newHashSet();
+		for (IMarkerDelta delta : deltas) {
+			TreeNode node = null;
+			switch (delta.getKind()) {
+				case IResourceDelta.ADDED:
+					node = contentService.add(delta.getMarker());
+					break;
+				case IResourceDelta.REMOVED:
+					node = contentService.remove(delta.getMarker());
+					break;
+				case IResourceDelta.CHANGED:
+					MarkerNode markerNode = contentService.findMarkerNode(delta.getMarker());
+					if (markerNode != null) {
+						getCommonViewer().update(markerNode, null);
+					}
+					break;
+			}
+			if (node != null) {
+				changed.add(node);
+			}
+		}
+		refresh(changed);
+		searchText.setVisible(getCommonViewer().getTree().getItemCount() > 0);
+	}
+	
+	/**
+	 * Refreshes the given nodes, or the whole tree if any of them is the invisible root node.
+	 */
+	private void refresh(Set<TreeNode> nodes) {
+		if (nodes.stream().anyMatch(node -> node.getParent() == null)) {
+			refresh();
+		}
+		else {
+			for (TreeNode node : nodes) {
+				getCommonViewer().refresh(node, true);
+			}
+		}
+		filter.invalidate(nodes);
 	}
 	
 	public void update(Issue issue, IMarker oldMarker) {
@@ -683,6 +730,9 @@ public class IssueExplorer extends CommonNavigator {
 	
 	@Override
 	public void dispose() {
+		ResourcesPlugin.getWorkspace().removeResourceChangeListener(markerListener);
+		rebuildJob.cancel();
+		filter.dispose();
 		super.dispose();
 //		broker.unsubscribe(groupsChangedHandler);
 		modelService.save();
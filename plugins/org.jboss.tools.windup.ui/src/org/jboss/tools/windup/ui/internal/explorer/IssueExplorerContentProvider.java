@@ -42,6 +42,7 @@ import org.jboss.tools.windup.model.domain.KantraConfiguration;
 import org.jboss.tools.windup.model.domain.ModelService;
 import org.jboss.tools.windup.model.domain.WindupConstants;
 import org.jboss.tools.windup.model.domain.WindupMarker;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
 import org.jboss.tools.windup.ui.internal.Messages;
 import org.jboss.tools.windup.ui.internal.explorer.IssueConstants.Severity;
 import org.jboss.tools.windup.ui.internal.services.IssueGroupService;
@@ -103,6 +104,14 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 		private MarkerService markerService;
 		private ModelService modelService;
 		private BidiMap nodeMap = new DualHashBidiMap();
+		private RootTreeNode root = new RootTreeNode();
+		
+		// The deepest pre-existing node that received a new child while adding the current marker.
+		private TreeNode changedNode;
+		
+		// Navigator parent paths, by resource and, for files, by container.
+		private Map<IResource, TreePath> resourcePaths = Maps.newHashMap();
+		private Map<IResource, TreePath> containerPaths = Maps.newHashMap();
 		
 		// Used for explorer linking
 		private Map<IResource, TreeNode> resourceMap = Maps.newHashMap();
@@ -133,20 +142,106 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 			if (configuration == null) {
 				return new TreeNode[0];
 			}
-			RootTreeNode root = new RootTreeNode();
-			for (IMarker marker : markers) {
-				NavigatorContentServiceContentProvider contentProvider = (NavigatorContentServiceContentProvider)IssueExplorer.current.getCommonViewer().getContentProvider();
-				List<TreePath> paths = Lists.newArrayList(contentProvider.getParents(marker.getResource()));
-				if (!paths.isEmpty()) {
-					TreePath path = paths.get(0);
-					build(root, root, path, marker, 1);
+			try (AnalysisMetrics.Timer timer = AnalysisMetrics.time("Build Issue Explorer tree")) { //$NON-NLS-1$
+				for (IMarker marker : markers) {
+					add(marker);
 				}
+				timer.count("markers", markers.size()).count("nodes", nodeMap.size()); //$NON-NLS-1$ //$NON-NLS-2$
 			}
-			List<TreeNode> children = root.getChildren();
-			if (children.isEmpty()) {
-				return new TreeNode[0];
+			return getElements();
+		}
+		
+		/**
+		 * Returns the top-level nodes of the tree built so far.
+		 */
+		public TreeNode[] getElements() {
+			return root.toArray();
+		}
+		
+		public RootTreeNode getRoot() {
+			return root;
+		}
+		
+		/**
+		 * Adds the node of the marker to the tree built so far, creating the missing intermediate nodes.
+		 * 
+		 * @return the deepest existing node that got a new child, or null if the tree didn't change.
+		 */
+		public TreeNode add(IMarker marker) {
+			if (configuration == null || nodeMap.containsKey(marker)) {
+				return null;
+			}
+			changedNode = null;
+			TreePath path = getParentPath(marker.getResource());
+			if (path != null) {
+				build(root, root, path, marker, 1);
+			}
+			return changedNode;
+		}
+		
+		/**
+		 * Returns the navigator path of the resource's parent. Paths are computed once per resource, and 
+		 * once per container for files, since all files of a container share the same parent path.
+		 * 
+		 * @return the path, or null if the resource has no parent in the navigator.
+		 */
+		private TreePath getParentPath(IResource resource) {
+			Map<IResource, TreePath> cache = resourcePaths;
+			IResource key = resource;
+			if (resource.getType() == IResource.FILE) {
+				cache = containerPaths;
+				key = resource.getParent();
+			}
+			if (cache.containsKey(key)) {
+				return cache.get(key);
 			}
-			return children.stream().toArray(TreeNode[]::new);
+			if (contentProvider == null) {
+				contentProvider = (NavigatorContentServiceContentProvider)IssueExplorer.current.getNavigatorContentProvider();
+			}
+			TreePath[] paths = contentProvider.getParents(resource);
+			TreePath path = paths.length > 0 ? paths[0] : null;
+			cache.put(key, path);
+			return path;
+		}
+		
+		/**
+		 * Removes the node of the marker from the tree, along with the ancestors left without issues.
+		 * 
+		 * @return the deepest remaining node that lost a child, or null if the marker isn't in the tree.
+		 */
+		public TreeNode remove(IMarker marker) {
+			TreeNode node = (TreeNode)nodeMap.remove(marker);
+			if (node == null) {
+				return null;
+			}
+			TreeNode parent = node.getParent();
+			Object segment = node.getSegment();
+			while (parent != null) {
+				parent.removeChild(segment);
+				if (segment instanceof IResource) {
+					resourceMap.remove(segment);
+				}
+				if (parent == root || !isEmpty(parent)) {
+					break;
+				}
+				segment = parent.getSegment();
+				parent = parent.getParent();
+			}
+			return parent;
+		}
+		
+		/**
+		 * Returns whether the node is left without issues, i.e. has no children but report nodes.
+		 */
+		private boolean isEmpty(TreeNode node) {
+			return node.getChildren().stream().allMatch(child -> child instanceof ReportNode || child instanceof RootReportNode);
+		}
+		
+		private void addChild(TreeNode parent, TreeNode child) {
+			if (changedNode == null) {
+				changedNode = parent;
+			}
+			parent.addChild(child);
 		}
 		
 		public BidiMap getNodeMap() {
@@ -167,17 +262,13 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 					TreeNode child = node.getChildPath(segment);
 					if (child == null) {
 						child = new TreeNode(segment);
-						node.addChild(child);
+						addChild(node, child);
 						if (segment instanceof IProject) {
 							resourceMap.put((IProject)segment, child);
-							KantraConfiguration kantraConfiguration = this.modelService.getKantraDelegate(configuration);
-							if (kantraConfiguration.getSummary() == null) {
-								org.jboss.tools.windup.model.domain.KantraRulesetParser.parseRulesetForKantraConfig(kantraConfiguration);	
-							}
-							if (kantraConfiguration.getSummary() != null) {
+							// Only the report location is needed, the results of a configuration with markers are in memory.
+							KantraConfiguration kantraConfiguration = this.modelService.getKantraLocations(configuration);
+							if (configuration.getWindupResult() != null) {
 								String projectName = ((IProject)segment).getName();
-								System.err.println("configuration.getInputs()");
-								System.out.println(configuration.getInputs());
 								Optional<Input> option = configuration.getInputs().stream().filter((input) -> projectName.equals(input.getName())).findFirst();
 								if (option.isPresent()) {
 //									Input input = option.get();
@@ -188,7 +279,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 										if (reportNode == null) {
 											reportNode = new RootReportNode(Messages.generatedReport, 
 													reportPath.toString());
-											child.addChild(reportNode);
+											addChild(child, reportNode);
 										}
 									}
 								}
@@ -204,7 +295,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 				TreeNode resourceNode = parent.getChildPath(marker.getResource());
 				if (resourceNode == null) {
 					resourceNode = new TreeNode(marker.getResource());
-					parent.addChild(resourceNode);
+					addChild(parent, resourceNode);
 					resourceMap.put(marker.getResource(), resourceNode);
 				}
 				parent = resourceNode;
@@ -218,7 +309,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 								TreeNode reportNode = parent.getChildPath(Messages.generatedReport);
 								if (reportNode == null) {
 									reportNode = new ReportNode(Messages.generatedReport, marker);
-									parent.addChild(reportNode);
+									addChild(parent, reportNode);
 								}
 							}
 						}
@@ -234,7 +325,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 				if (severityNode == null) {
 					//severityNode = new SeverityNode(segment, severity);
 					severityNode = new SeverityNode(severity, severity);
-					parent.addChild(severityNode);
+					addChild(parent, severityNode);
 				}
 				parent = severityNode;
 			}
@@ -250,7 +341,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 				TreeNode ruleNode = parent.getChildPath(segment);
 				if (ruleNode == null) {
 					ruleNode = new RuleGroupNode(segment, ruleId, title);
-					parent.addChild(ruleNode);
+					addChild(parent, ruleNode);
 				}
 				parent = ruleNode;
 			}
@@ -262,7 +353,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 				child.set(Issue.class, issue);
 				MarkerNode markerNode = ContextInjectionFactory.make(MarkerNode.class, child);*/
 				MarkerNode markerNode = new MarkerNode(marker, issue);
-				parent.addChild(markerNode);
+				addChild(parent, markerNode);
 				nodeMap.put(marker, markerNode);
 //			}
 		}
@@ -282,6 +373,17 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 			return Lists.newArrayList(children.values());
 		}
 		
+		/**
+		 * Returns the children without copying them into an intermediate list.
+		 */
+		public TreeNode[] toArray() {
+			return children.values().toArray(new TreeNode[children.size()]);
+		}
+		
+		public int getChildCount() {
+			return children.size();
+		}
+		
 		public void removeChild(Object key) {
 			children.remove(key);
 		}
@@ -311,7 +413,7 @@ public class IssueExplorerContentProvider implements ICommonContentProvider {
 			for (Iterator<Map.Entry<Object, TreeNode>> iter = children.entrySet().iterator(); iter.hasNext();) {
 				TreeNode child = iter.next().getValue();
 				if (!(child instanceof RootReportNode) && !(child instanceof ReportNode)) {
-					if (child.getChildren().isEmpty()) {
+					if (child.getChildCount() == 0) {
 						return true;
 					}
 				}
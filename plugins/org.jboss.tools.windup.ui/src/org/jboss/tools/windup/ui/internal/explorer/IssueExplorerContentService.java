@@ -53,10 +53,13 @@ public class IssueExplorerContentService {
 	
 	private BidiMap nodeMap = new DualHashBidiMap();
 	
+	// The tree of the last build, kept up to date with marker changes until invalidated.
+	private TreeNodeBuilder builder;
+	
 	public boolean hasChildren(Object element) {
 		if (element instanceof TreeNode) {
 			TreeNode node = (TreeNode)element;
-			return !node.getChildren().isEmpty();
+			return node.getChildCount() > 0;
 		}
 		return element instanceof IWorkspaceRoot;
 	}
@@ -64,9 +67,12 @@ public class IssueExplorerContentService {
 	public Object[] getChildren(Object parent) {
 		if (parent instanceof TreeNode) {
 			TreeNode node = (TreeNode)parent;
-			return node.getChildren().stream().toArray(TreeNode[]::new);	
+			return node.toArray();
 		}
 		else if (parent instanceof IWorkspaceRoot) {
+			if (builder != null) {
+				return builder.getElements();
+			}
 			return createNodeGroups();
 		}
 		return new Object[0];
@@ -88,10 +94,50 @@ public class IssueExplorerContentService {
 				/*issueExplorer, */ /* groupService, context, */ 
 				markerService, modelService.getRecentConfiguration(), modelService);
 		Object[] input = builder.build();
+		this.builder = builder;
 		this.nodeMap = builder.getNodeMap();
 		this.resourceMap = builder.getResourceMap();
 		return input;
 	}
+	
+	/**
+	 * Discards the current tree, so that it gets built again from all markers on the next refresh.
+	 */
+	public void invalidate() {
+		this.builder = null;
+	}
+	
+	/**
+	 * Returns whether a tree has been built that marker changes can be applied to.
+	 */
+	public boolean isBuilt() {
+		return builder != null;
+	}
+	
+	/**
+	 * Returns the invisible root of the current tree, or null if no tree has been built.
+	 */
+	public TreeNode getRoot() {
+		return builder != null ? builder.getRoot() : null;
+	}
+	
+	/**
+	 * Adds the node of a newly created marker to the current tree.
+	 * 
+	 * @return the node whose children changed, or null if the tree didn't change.
+	 */
+	public TreeNode add(IMarker marker) {
+		return builder != null ? builder.add(marker) : null;
+	}
+	
+	/**
+	 * Removes the node of a deleted marker from the current tree.
+	 * 
+	 * @return the node whose children changed, or null if the tree didn't change.
+	 */
+	public TreeNode remove(IMarker marker) {
+		return builder != null ? builder.remove(marker) : null;
+	}
 
 	public MarkerNode findMarkerNode(IMarker marker) {
 		return (MarkerNode)nodeMap.get(marker);
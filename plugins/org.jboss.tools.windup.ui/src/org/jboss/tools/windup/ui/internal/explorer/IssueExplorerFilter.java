@@ -0,0 +1,304 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.ui.internal.explorer;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.IOpenable;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.eclipse.ui.progress.UIJob;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.ReportNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.RootReportNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.RuleGroupNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.SeverityNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Filters the Issue Explorer by the text of its search box.
+ *
+ * The structure of the tree is indexed once per change, and each query is evaluated against that index in a
+ * background job once the user stopped typing. The job also computes the labels of the index, and keeps them
+ * until their nodes change, so that editing a file only computes the labels of the nodes it changed.
+ * The viewer is then refreshed with the resulting set of visible nodes, so selecting a node is a single lookup.
+ *
+ * A node is visible if its label matches, if it is an issue whose grouping nodes match, or if any of its
+ * descendants is visible. Report nodes are visible along with the other issues of their resource.
+ */
+public class IssueExplorerFilter extends ViewerFilter {
+
+	private static final int DELAY = 200;
+
+	private final Viewer viewer;
+	private final Supplier<TreeNode> rootProvider;
+	private final Function<TreeNode, String> labelProvider;
+	private final Runnable onFiltered;
+
+	private volatile String query = "";
+	private volatile Set<TreeNode> visible;
+	private Index index;
+	// Nodes are compared by identity, so the labels of removed nodes are released along with them.
+	private final Map<TreeNode, String> labels = Collections.synchronizedMap(new WeakHashMap<TreeNode, String>());
+	private Job matchJob;
+
+	private Job debounceJob = new UIJob("Filtering issues") { //$NON-NLS-1$
+		@Override
+		public IStatus runInUIThread(IProgressMonitor monitor) {
+			match();
+			return Status.OK_STATUS;
+		}
+	};
+
+	/**
+	 * @param rootProvider returns the invisible root of the current tree, or null if no tree is built.
+	 * @param labelProvider returns the label the query is matched against, invoked outside the UI thread.
+	 * @param onFiltered invoked in the UI thread once the visible nodes of a query are known.
+	 */
+	public IssueExplorerFilter(Viewer viewer, Supplier<TreeNode> rootProvider,
+			Function<TreeNode, String> labelProvider, Runnable onFiltered) {
+		this.viewer = viewer;
+		this.rootProvider = rootProvider;
+		this.labelProvider = labelProvider;
+		this.onFiltered = onFiltered;
+		debounceJob.setSystem(true);
+	}
+
+	@Override
+	public boolean select(Viewer viewer, Object parentElement, Object element) {
+		if (!(element instanceof TreeNode)) {
+			return false;
+		}
+		Set<TreeNode> visible = this.visible;
+		return visible == null || visible.contains(element);
+	}
+
+	/**
+	 * Returns whether nodes are currently being hidden.
+	 */
+	public boolean isFiltering() {
+		return visible != null;
+	}
+
+	/**
+	 * Filters the tree by the given text once no other text has been set for a short delay.
+	 */
+	public void setQuery(String text) {
+		this.query = text;
+		debounceJob.cancel();
+		debounceJob.schedule(DELAY);
+	}
+
+	/**
+	 * Discards the index and all labels after the tree was rebuilt, and filters the new tree by the current query.
+	 */
+	public void invalidate() {
+		labels.clear();
+		invalidateIndex();
+	}
+	
+	/**
+	 * Discards the index and the labels of the given nodes and their ancestors after their children changed, and
+	 * filters the tree by the current query. The labels of all other nodes are kept.
+	 */
+	public void invalidate(Collection<TreeNode> changed) {
+		for (TreeNode node : changed) {
+			for (TreeNode current = node; current != null; current = current.getParent()) {
+				labels.remove(current);
+			}
+		}
+		invalidateIndex();
+	}
+	
+	private void invalidateIndex() {
+		index = null;
+		if (matchJob != null) {
+			matchJob.cancel();
+		}
+		if (!query.trim().isEmpty()) {
+			debounceJob.cancel();
+			debounceJob.schedule();
+		}
+	}
+
+	public void dispose() {
+		debounceJob.cancel();
+		if (matchJob != null) {
+			matchJob.cancel();
+		}
+	}
+
+	private void match() {
+		if (matchJob != null) {
+			matchJob.cancel();
+		}
+		String text = this.query;
+		if (text.trim().isEmpty()) {
+			apply(text, null);
+			return;
+		}
+		if (index == null) {
+			TreeNode root = rootProvider.get();
+			if (root == null) {
+				return;
+			}
+			// The tree is only changed in the UI thread, so its structure is collected here.
+			index = new Index(root);
+		}
+		Index index = this.index;
+		StringMatcher matcher = IssueExplorer.getFilterMatcher(text.trim());
+		matchJob = new Job("Filtering issues") { //$NON-NLS-1$
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				if (!index.computeLabels(labelProvider, labels, monitor)) {
+					return Status.OK_STATUS;
+				}
+				Set<TreeNode> result = index.match(matcher, monitor);
+				if (result != null && !monitor.isCanceled()) {
+					viewer.getControl().getDisplay().asyncExec(() -> apply(text, result));
+				}
+				return Status.OK_STATUS;
+			}
+		};
+		matchJob.setSystem(true);
+		matchJob.schedule();
+	}
+
+	private void apply(String text, Set<TreeNode> result) {
+		if (viewer.getControl().isDisposed() || !text.equals(this.query)) {
+			return;
+		}
+		this.visible = result;
+		onFiltered.run();
+	}
+
+	/**
+	 * The nodes of a tree and their labels, flattened in pre-order so that every node comes after its parent.
+	 */
+	private static class Index {
+
+		private final TreeNode[] nodes;
+		private final int[] parents;
+		private final String[] labels;
+		private final boolean[] markers;
+		private final boolean[] reports;
+		private final boolean[] resourceParents;
+		// Whether a match of the node is inherited by the issues beneath it.
+		private final boolean[] groups;
+
+		Index(TreeNode root) {
+			List<TreeNode> nodes = Lists.newArrayList();
+			List<Integer> parents = Lists.newArrayList();
+			collect(root, -1, nodes, parents);
+			int size = nodes.size();
+			this.nodes = nodes.toArray(new TreeNode[size]);
+			this.parents = new int[size];
+			this.labels = new String[size];
+			this.markers = new boolean[size];
+			this.reports = new boolean[size];
+			this.resourceParents = new boolean[size];
+			this.groups = new boolean[size];
+			for (int i = 0; i < size; i++) {
+				TreeNode node = this.nodes[i];
+				this.parents[i] = parents.get(i);
+				this.markers[i] = node instanceof MarkerNode;
+				this.reports[i] = node instanceof ReportNode || node instanceof RootReportNode;
+				this.resourceParents[i] = node.getParent() != null && node.getParent().getSegment() instanceof IResource;
+				Object segment = node.getSegment();
+				this.groups[i] = i != 0 && (node instanceof RuleGroupNode || node instanceof SeverityNode || segment instanceof IResource
+						|| segment instanceof IOpenable || segment instanceof IContainer) && !(segment instanceof IProject);
+			}
+		}
+
+		private static void collect(TreeNode node, int parent, List<TreeNode> nodes, List<Integer> parents) {
+			int index = nodes.size();
+			nodes.add(node);
+			parents.add(parent);
+			for (TreeNode child : node.getChildren()) {
+				collect(child, index, nodes, parents);
+			}
+		}
+
+		/**
+		 * Computes the labels of the nodes that don't have one yet, reusing the given labels of unchanged nodes.
+		 *
+		 * @return false if the monitor was cancelled.
+		 */
+		boolean computeLabels(Function<TreeNode, String> labelProvider, Map<TreeNode, String> cache, IProgressMonitor monitor) {
+			// The invisible root has no label.
+			for (int i = 1; i < nodes.length; i++) {
+				if ((i & 0xFFF) == 0 && monitor.isCanceled()) {
+					return false;
+				}
+				if (labels[i] == null) {
+					String label = cache.get(nodes[i]);
+					if (label == null) {
+						label = labelProvider.apply(nodes[i]);
+						cache.put(nodes[i], label);
+					}
+					labels[i] = label;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * @return the visible nodes, or null if the monitor was cancelled.
+		 */
+		Set<TreeNode> match(StringMatcher matcher, IProgressMonitor monitor) {
+			int size = nodes.length;
+			boolean[] matches = new boolean[size];
+			boolean[] inherited = new boolean[size];
+			boolean[] visible = new boolean[size];
+			boolean[] visibleIssues = new boolean[size];
+			for (int i = 1; i < size; i++) {
+				if ((i & 0xFFF) == 0 && monitor.isCanceled()) {
+					return null;
+				}
+				matches[i] = matcher.match(labels[i]);
+				int parent = parents[i];
+				inherited[i] = groups[parent] && (matches[parent] || inherited[parent]);
+				visible[i] = matches[i] || (markers[i] && inherited[i]);
+			}
+			for (int i = size - 1; i > 0; i--) {
+				if (visible[i]) {
+					visible[parents[i]] = true;
+					if (!reports[i]) {
+						visibleIssues[parents[i]] = true;
+					}
+				}
+			}
+			Set<TreeNode> result = Collections.newSetFromMap(new IdentityHashMap<TreeNode, Boolean>());
+			for (int i = 1; i < size; i++) {
+				if (visible[i] || (reports[i] && resourceParents[i] && visibleIssues[parents[i]])) {
+					result.add(nodes[i]);
+				}
+			}
+			return result;
+		}
+	}
+}
@@ -247,7 +247,7 @@ public class IssueExplorerLabelProvider implements ICommonLabelProvider, IStyled
 			TreeNode node = (TreeNode)element;
 			String label = getLabel(node);
 			if (node.isLeafParent()) {
-				label += " (" + node.getChildren().size() + ")";
+				label += " (" + node.getChildCount() + ")";
 			}
 			return label;
 		}
@@ -322,6 +322,33 @@ public class IssueExplorerLabelProvider implements ICommonLabelProvider, IStyled
 	public StyledString getStyledText(Object element) {
 		String filterText = getFiltertText(); 
 		
+		StyledString style = createStyledText(element);
+		
+		if (!filterText.isEmpty()) {
+			StringMatcher matcher = IssueExplorer.getFilterMatcher(filterText);
+			String label = style.getString();
+			StringMatcher.Position position = matcher.find(label, 0, label.length());
+			if (position != null && (position.getEnd() - position.getStart()) > 0) {
+				style.setStyle(position.getStart(), position.getEnd() - position.getStart(), new Styler() {
+					@Override
+					public void applyStyles(TextStyle textStyle) {
+						textStyle.background = YELLOW;
+					}
+				});
+			}
+		}
+		return style;
+	}
+	
+	/**
+	 * Returns the label the search text is matched against. Unlike {@link #getStyledText(Object)}, it doesn't
+	 * depend on the search text, and it may be called outside the UI thread.
+	 */
+	public String getFilterLabel(Object element) {
+		return createStyledText(element).getString();
+	}
+	
+	private StyledString createStyledText(Object element) {
 		StyledString style = new StyledString();
 		
 		if (element instanceof MarkerNode) {
@@ -381,21 +408,7 @@ public class IssueExplorerLabelProvider implements ICommonLabelProvider, IStyled
 			}
 			
 			if (node.isLeafParent()) {
-				style.append(" (" + node.getChildren().size() + ")", StyledString.COUNTER_STYLER);
-			}
-		}
-		
-		if (!filterText.isEmpty()) {
-			StringMatcher matcher = IssueExplorer.getFilterMatcher(filterText);
-			String label = style.getString();
-			StringMatcher.Position position = matcher.find(label, 0, label.length());
-			if (position != null && (position.getEnd() - position.getStart()) > 0) {
-				style.setStyle(position.getStart(), position.getEnd() - position.getStart(), new Styler() {
-					@Override
-					public void applyStyles(TextStyle textStyle) {
-						textStyle.background = YELLOW;
-					}
-				});
+				style.append(" (" + node.getChildCount() + ")", StyledString.COUNTER_STYLER);
 			}
 		}
 		return style;
@@ -0,0 +1,105 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.ui.internal.explorer;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import org.eclipse.jface.viewers.ILazyTreeContentProvider;
+import org.eclipse.jface.viewers.TreeViewer;
+import org.eclipse.jface.viewers.Viewer;
+import org.eclipse.jface.viewers.ViewerFilter;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
+
+/**
+ * Content provider of the Issue Explorer in virtual mode, where tree items are only created for the
+ * rows that are scrolled into view.
+ *
+ * Since lazy viewers neither filter nor sort, the children of an element are filtered and sorted here
+ * when the element is first expanded, and kept until the viewer is refreshed. Child counts of unfiltered
+ * nodes are taken from the nodes themselves, without collecting their children.
+ */
+public class IssueExplorerLazyContentProvider implements ILazyTreeContentProvider {
+
+	private final TreeViewer viewer;
+	private final IssueExplorerContentService contentService;
+	private final IssueExplorerFilter filter;
+
+	private final Map<Object, Object[]> children = new IdentityHashMap<Object, Object[]>();
+
+	public IssueExplorerLazyContentProvider(TreeViewer viewer, IssueExplorerContentService contentService, IssueExplorerFilter filter) {
+		this.viewer = viewer;
+		this.contentService = contentService;
+		this.filter = filter;
+	}
+
+	@Override
+	public void updateElement(Object parent, int index) {
+		Object[] children = getChildren(parent);
+		if (index < children.length) {
+			Object child = children[index];
+			viewer.replace(parent, index, child);
+			viewer.setHasChildren(child, getChildCount(child) > 0);
+		}
+	}
+
+	@Override
+	public void updateChildCount(Object element, int currentChildCount) {
+		int count = getChildCount(element);
+		if (count != currentChildCount) {
+			viewer.setChildCount(element, count);
+		}
+	}
+
+	@Override
+	public Object getParent(Object element) {
+		Object parent = contentService.getParent(element);
+		// Top-level nodes are children of the invisible root node, which the viewer knows as its input.
+		if (parent instanceof TreeNode && ((TreeNode)parent).getParent() == null) {
+			return viewer.getInput();
+		}
+		return parent;
+	}
+
+	@Override
+	public void inputChanged(Viewer viewer, Object oldInput, Object newInput) {
+		invalidate();
+	}
+
+	/**
+	 * Discards the children collected so far, to be called whenever the tree or its filter changed.
+	 */
+	public void invalidate() {
+		children.clear();
+	}
+
+	private int getChildCount(Object element) {
+		if (element instanceof TreeNode && !filter.isFiltering() && !children.containsKey(element)) {
+			return ((TreeNode)element).getChildCount();
+		}
+		return getChildren(element).length;
+	}
+
+	private Object[] getChildren(Object parent) {
+		Object[] result = children.get(parent);
+		if (result == null) {
+			result = contentService.getChildren(parent);
+			for (ViewerFilter viewerFilter : viewer.getFilters()) {
+				result = viewerFilter.filter(viewer, parent, result);
+			}
+			if (viewer.getComparator() != null) {
+				viewer.getComparator().sort(viewer, result);
+			}
+			children.put(parent, result);
+		}
+		return result;
+	}
+}
@@ -16,6 +16,7 @@ import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.jboss.tools.windup.model.domain.WindupConstants;
 import org.jboss.tools.windup.model.domain.WindupMarker;
+import org.jboss.tools.windup.model.util.IssueUtil;
 import org.jboss.tools.windup.ui.internal.explorer.IssueConstants.Severity;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
 import org.jboss.tools.windup.windup.Hint;
@@ -65,7 +66,7 @@ public class MarkerNode extends TreeNode {
 	}
 	
 	public boolean hasQuickFix() {
-		return !issue.getQuickFixes().isEmpty() && !issue.isFixed();
+		return IssueUtil.hasQuickFixes(issue) && !issue.isFixed();
 	}
 	
 	public boolean isFixed() {
@@ -39,6 +39,7 @@ import org.eclipse.wst.xml.core.internal.formatter.XMLFormatterFormatProcessor;
 import org.eclipse.wst.xml.core.internal.provisional.document.IDOMModel;
 import org.jboss.tools.windup.model.domain.WorkspaceResourceUtils;
 import org.jboss.tools.windup.model.util.DocumentUtils;
+import org.jboss.tools.windup.model.util.IssueUtil;
 import org.jboss.tools.windup.runtime.WindupRmiClient;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.rules.xml.XMLRulesetModelUtil;
@@ -230,6 +231,6 @@ public class QuickfixService {
 	}
 	
 	public static boolean isIssueFixable(Issue issue) {
-		return !issue.isStale() && !issue.isFixed() && !issue.getQuickFixes().isEmpty();
+		return !issue.isStale() && !issue.isFixed() && IssueUtil.hasQuickFixes(issue);
 	}
 }
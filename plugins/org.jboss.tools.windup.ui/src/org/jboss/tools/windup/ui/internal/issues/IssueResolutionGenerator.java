@@ -15,6 +15,7 @@ import jakarta.inject.Inject;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.ui.IMarkerResolution;
 import org.eclipse.ui.IMarkerResolutionGenerator2;
+import org.jboss.tools.windup.model.util.IssueUtil;
 import org.jboss.tools.windup.ui.internal.explorer.QuickfixService;
 import org.jboss.tools.windup.ui.internal.issues.IssueResolutions.FirstQuickFixResolution;
 import org.jboss.tools.windup.ui.internal.services.MarkerService;
@@ -43,7 +44,7 @@ public class IssueResolutionGenerator implements IMarkerResolutionGenerator2 {
 	}
 	
 	private IMarkerResolution[] collectResolutions(Issue issue) {
-		if (!issue.getQuickFixes().isEmpty()) {
+		if (IssueUtil.hasQuickFixes(issue)) {
 			return new IMarkerResolution[]{new FirstQuickFixResolution(quickfixService, markerService, issue)};
 		}
 		return new IMarkerResolution[0];
@@ -21,6 +21,7 @@ import org.eclipse.swt.graphics.Image;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.actions.WorkspaceModifyOperation;
 import org.eclipse.ui.views.markers.WorkbenchMarkerResolution;
+import org.jboss.tools.windup.model.util.IssueUtil;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.explorer.QuickfixService;
 import org.jboss.tools.windup.ui.internal.services.MarkerService;
@@ -69,7 +70,7 @@ public class IssueResolutions {
 			List<IMarker> others = Lists.newArrayList();
 			for (IMarker marker : markers) {
 				Hint hint = markerService.find(marker);
-				if (this.issue != hint && !hint.isStale() && !hint.isFixed() && !hint.getQuickFixes().isEmpty()) {
+				if (this.issue != hint && !hint.isStale() && !hint.isFixed() && IssueUtil.hasQuickFixes(hint)) {
 					others.add(marker);
 				}
 			}
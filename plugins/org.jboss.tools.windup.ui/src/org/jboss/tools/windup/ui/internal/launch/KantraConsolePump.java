@@ -0,0 +1,103 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.ui.internal.launch;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.ui.console.MessageConsoleStream;
+import org.jboss.tools.windup.runtime.kantra.KantraLogLevel;
+
+/**
+ * Copies kantra's output to the console in batches.
+ *
+ * Lines below the configured level are dropped, the others are queued in a bounded buffer that is drained
+ * at a fixed interval with one write per batch. When the buffer is full, the process' output is held back
+ * for a short while, and if the console still can't keep up, the oldest lines are discarded.
+ */
+public class KantraConsolePump implements Consumer<String> {
+
+	private static final int CAPACITY = 10000;
+	private static final int DRAIN_INTERVAL = 100;
+	private static final int BACKPRESSURE_TIMEOUT = 50;
+
+	private final MessageConsoleStream out;
+	private final KantraLogLevel level;
+	private final BlockingQueue<String> buffer = new ArrayBlockingQueue<String>(CAPACITY);
+	private final AtomicBoolean scheduled = new AtomicBoolean();
+	private final AtomicInteger dropped = new AtomicInteger();
+
+	private final Job drainJob = new Job("Kantra console") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			scheduled.set(false);
+			drain();
+			return Status.OK_STATUS;
+		}
+	};
+
+	public KantraConsolePump(MessageConsoleStream out, KantraLogLevel level) {
+		this.out = out;
+		this.level = level;
+		drainJob.setSystem(true);
+	}
+
+	@Override
+	public void accept(String line) {
+		if (!level.accepts(KantraLogLevel.of(line))) {
+			return;
+		}
+		try {
+			while (!buffer.offer(line, BACKPRESSURE_TIMEOUT, TimeUnit.MILLISECONDS)) {
+				if (buffer.poll() != null) {
+					dropped.incrementAndGet();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		if (scheduled.compareAndSet(false, true)) {
+			drainJob.schedule(DRAIN_INTERVAL);
+		}
+	}
+
+	/**
+	 * Writes the remaining lines to the console once the process terminated.
+	 */
+	public void flush() {
+		drainJob.cancel();
+		drain();
+	}
+
+	private synchronized void drain() {
+		StringBuilder batch = new StringBuilder();
+		int missed = dropped.getAndSet(0);
+		if (missed > 0) {
+			batch.append("... ").append(missed).append(" lines of output skipped\n"); //$NON-NLS-1$ //$NON-NLS-2$
+		}
+		String line;
+		while ((line = buffer.poll()) != null) {
+			batch.append(line).append('\n');
+		}
+		if (batch.length() > 0) {
+			out.print(batch.toString());
+		}
+	}
+}
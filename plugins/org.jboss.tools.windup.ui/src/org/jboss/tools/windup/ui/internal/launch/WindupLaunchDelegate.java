@@ -13,25 +13,31 @@ package org.jboss.tools.windup.ui.internal.launch;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
-import java.util.function.Consumer;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IResource;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
-import org.eclipse.core.runtime.jobs.IJobChangeEvent;
 import org.eclipse.core.runtime.jobs.Job;
-import org.eclipse.core.runtime.jobs.JobChangeAdapter;
 import org.eclipse.debug.core.ILaunch;
 import org.eclipse.debug.core.ILaunchConfiguration;
 import org.eclipse.debug.core.model.ILaunchConfigurationDelegate;
 import org.eclipse.e4.ui.services.IServiceConstants;
 import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.osgi.util.NLS;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.swt.widgets.Shell;
 import org.eclipse.ui.PartInitException;
@@ -43,18 +49,28 @@ import org.eclipse.ui.console.IConsoleManager;
 import org.eclipse.ui.console.IConsoleView;
 import org.eclipse.ui.console.MessageConsole;
 import org.eclipse.ui.console.MessageConsoleStream;
+import org.jboss.tools.windup.model.domain.KantraConfiguration;
+import org.jboss.tools.windup.model.domain.KantraRulesetParser;
+import org.jboss.tools.windup.model.domain.KantraSnapshot;
 import org.jboss.tools.windup.model.domain.ModelService;
+import org.jboss.tools.windup.model.domain.WorkspaceResourceUtils;
 import org.jboss.tools.windup.runtime.WindupRuntimePlugin;
+import org.jboss.tools.windup.runtime.kantra.KantraProgress;
 import org.jboss.tools.windup.runtime.kantra.KantraRunner;
+import org.jboss.tools.windup.runtime.kantra.KantraScheduler;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.Messages;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorer;
 import org.jboss.tools.windup.ui.internal.services.MarkerService;
 import org.jboss.tools.windup.ui.internal.services.ViewService;
 import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Issue;
 import org.jboss.tools.windup.windup.Pair;
+import org.jboss.tools.windup.windup.WindupResult;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 
 /**
@@ -71,7 +87,12 @@ public class WindupLaunchDelegate implements ILaunchConfigurationDelegate {
 	
 	public static KantraRunner activeRunner = null;
 	private static Job kantraJob = null;
-	private static IProgressMonitor kantraMonitor;
+	
+	/**
+	 * Total work of the kantra job, split up by the fraction of the analysis done.
+	 */
+	private static final int TOTAL_WORK = 1000;
+	private static final int PROGRESS_INTERVAL = 500;
 	
 	public void launch(ILaunchConfiguration config, String mode, ILaunch launch, IProgressMonitor monitor) {
 		ConfigurationElement configuration = IssueExplorer.current.modelService.findConfiguration(config.getName());
@@ -83,96 +104,20 @@ public class WindupLaunchDelegate implements ILaunchConfigurationDelegate {
 			});
 		}
 		else {
-			IssueExplorer.current.markerService.clear();
 			this.runKantra(configuration);
 		}
 	}
 	
-	private boolean invalidConfig = false; 
-		
 	private void runKantra(ConfigurationElement configuration) {
-		this.invalidConfig = false;
-		if (WindupLaunchDelegate.activeRunner != null) {
-			WindupLaunchDelegate.activeRunner.kill();
-		}
 		if (kantraJob != null) {
+			// Cancelling the job cancels its kantra future, which destroys the running process.
 			kantraJob.cancel();
 		}
+		if (WindupLaunchDelegate.activeRunner != null) {
+			WindupLaunchDelegate.activeRunner.kill();
+		}
 		
-		MessageConsole myConsole = findConsole("kantra");
-		MessageConsoleStream out = myConsole.newMessageStream();		
-		
-		Display.getDefault().syncExec(() -> {
-			try {
-				IConsoleView view = (IConsoleView)PlatformUI.getWorkbench().getActiveWorkbenchWindow().
-						getActivePage().showView(IConsoleConstants.ID_CONSOLE_VIEW);
-				view.display(myConsole);
-			} catch (PartInitException e) {
-				WindupUIPlugin.log(e);
-			}
-		});
-		
-		Boolean debugging = false;
-		
-		kantraJob = new Job("Kantra Running - " + configuration.getName()) {
-	      @Override
-	      protected IStatus run(IProgressMonitor monitor) {
-	    	  	kantraMonitor = monitor;
-	    	  	// comment line below when just wanting to load results.
-	      		while (!monitor.isCanceled()) {}
-	      		
-	      		if (monitor.isCanceled()) {
-	      			System.out.println("Kantra Cancelled. TODO: Anything to cleanup?");
-	      			if (WindupLaunchDelegate.activeRunner != null) {
-	    				WindupLaunchDelegate.activeRunner.kill();
-	    			}	
-	      		}
-	      		
-	          	return Status.OK_STATUS;
-	      }
-		};
-		
-		kantraJob.addJobChangeListener(new JobChangeAdapter() {
-	    	@Override
-	    	public void done(IJobChangeEvent event) {
-	    		super.done(event);
-	    		System.out.println("kantra job done");
-	    		configuration.setTimestamp(ModelService.createTimestamp());
-	    		// when debugging, 
-				// at this point debugging might do the same thing.
-	    		if (debugging) {
-	    			if (WindupLaunchDelegate.activeRunner != null) {
-	    				WindupLaunchDelegate.activeRunner.kill();
-	    			}	    				
-	    			kantraMonitor.done();
-	    			org.jboss.tools.windup.model.domain.KantraRulesetParser.parseRulesetForKantraConfig(IssueExplorer.current.modelService.getKantraDelegate(configuration));
-	    			IssueExplorer.current.modelService.save();
-	    			IssueExplorer.current.markerService.generateMarkersForConfiguration(configuration);
-	    			IssueExplorer.current.viewService.renderReport(configuration);
-	    			return;
-	    		}
-				else {
-					if (WindupLaunchDelegate.activeRunner != null) {
-	    				WindupLaunchDelegate.activeRunner.kill();
-	    			}
-					if (!WindupLaunchDelegate.this.invalidConfig) {
-			    		org.jboss.tools.windup.model.domain.KantraRulesetParser.parseRulesetForKantraConfig(IssueExplorer.current.modelService.getKantraDelegate(configuration));
-			    		IssueExplorer.current.modelService.save();
-			    		IssueExplorer.current.markerService.generateMarkersForConfiguration(configuration);
-			    		IssueExplorer.current.viewService.renderReport(configuration);
-					}
-				}
-	    		kantraMonitor.done();
-	    	}
-	    });
-		kantraJob.setUser(true);
-		kantraJob.schedule();
-	    		
-		
-		WindupLaunchDelegate.activeRunner = new KantraRunner();
-
-        
-        Set<String> inputs = configuration.getInputs().stream().map(i -> i.getLocation()).collect(Collectors.toSet());
+		Set<String> inputs = configuration.getInputs().stream().map(i -> i.getLocation()).collect(Collectors.toSet());
 		List<String> sources = Lists.newArrayList();
 		List<String> targets = Lists.newArrayList();
 		String output = configuration.getOutputLocation();
@@ -181,33 +126,17 @@ public class WindupLaunchDelegate implements ILaunchConfigurationDelegate {
 		File outputFile = new File(output);
 		
 		Optional<Pair> overwriteOption = configuration.getOptions().stream().filter(option -> option.getKey().equals("overwrite")).findFirst();
-		if (overwriteOption.isPresent()) {
-			Pair pair = overwriteOption.get();
-			if (!Boolean.valueOf(pair.getValue())) {
-				if (outputFile.exists()) {
-					Display.getDefault().asyncExec(() -> {
-						MessageDialog.openInformation(Display.getDefault().getActiveShell(), 
-								Messages.launchErrorTitle, "Output location already exists. `--overwrite` option is required.");
-						WindupUIPlugin.logErrorMessage("Output location already exists. `--overwrite` option is required."); //$NON-NLS-1$
-					});
-					this.invalidConfig = true;
-					kantraJob.cancel();
-					return;
-				}
-			}
-			
-		}
-		else {
-			if (outputFile.exists()) {
-				Display.getDefault().asyncExec(() -> {
-					MessageDialog.openInformation(Display.getDefault().getActiveShell(), 
-							Messages.launchErrorTitle, "Output location already exists. `--overwrite` option is required.");
-					WindupUIPlugin.logErrorMessage("Output location already exists. `--overwrite` option is required."); //$NON-NLS-1$
-				});
-				this.invalidConfig = true;
-				kantraJob.cancel();
-				return;
-			}
+		boolean overwrite = overwriteOption.isPresent() && Boolean.valueOf(overwriteOption.get().getValue());
+		// Incremental analysis reuses the results of the inputs that have not changed since the last analysis.
+		Optional<Pair> incrementalOption = configuration.getOptions().stream().filter(option -> option.getKey().equals("incremental")).findFirst();
+		boolean incremental = incrementalOption.isPresent() && Boolean.valueOf(incrementalOption.get().getValue());
+		if (!overwrite && !incremental && outputFile.exists()) {
+			Display.getDefault().asyncExec(() -> {
+				MessageDialog.openInformation(Display.getDefault().getActiveShell(), 
+						Messages.launchErrorTitle, "Output location already exists. `--overwrite` option is required.");
+				WindupUIPlugin.logErrorMessage("Output location already exists. `--overwrite` option is required."); //$NON-NLS-1$
+			});
+			return;
 		}
 		
 		if (!outputFile.exists()) {
@@ -215,9 +144,7 @@ public class WindupLaunchDelegate implements ILaunchConfigurationDelegate {
 				outputFile.mkdirs();
 			}
 			catch (Exception e) {
-				System.out.println("Error creating kantra output location.");
-				e.printStackTrace();
-				kantraJob.cancel();
+				WindupUIPlugin.logError("Error creating kantra output location.", e); //$NON-NLS-1$
 				return;
 			}
 		}
@@ -237,40 +164,238 @@ public class WindupLaunchDelegate implements ILaunchConfigurationDelegate {
 				rules.add(value);
 			}
         }
-    	if (targets.isEmpty()) {
-//    		targets.add("quarkus");
-    	}
-    	if (sources.isEmpty()) {
-//    		sources.add("springboot");
-    	}
-
-    	IssueExplorer.current.viewService.launchStarting();
-    	Consumer<String> onMessage = (msg) -> { 
-    		System.out.println("onMessage: " + msg);
-    		Display.getDefault().asyncExec(() -> {
-    			out.println(msg.toString());
-    		});
-    	};
-    	Consumer<Boolean> onComplete = (msg) -> { 
-    		System.out.println("onComplete: " + msg);
-        	kantraJob.cancel();
-    	};
-    	Consumer<String> onFailed = (msg) -> { 
-    		System.out.println("onFailed: " + msg.toString());
-    		System.out.println(msg.toString());
-    		kantraJob.cancel();
-    	};
-    	
     	
     	Optional<Pair> analyzeKnownLibrariesOption = configuration.getOptions().stream().filter(option -> option.getKey().equals("analyze-known-libraries")).findFirst();
     	boolean analyzeKnownLibraries = false;
     	if (analyzeKnownLibrariesOption.isPresent() && Boolean.valueOf(analyzeKnownLibrariesOption.get().getValue())) {
     		analyzeKnownLibraries = true;
     	}
+		
+		MessageConsole myConsole = findConsole("kantra");
+		MessageConsoleStream out = myConsole.newMessageStream();		
+		
+		Display.getDefault().syncExec(() -> {
+			try {
+				IConsoleView view = (IConsoleView)PlatformUI.getWorkbench().getActiveWorkbenchWindow().
+						getActivePage().showView(IConsoleConstants.ID_CONSOLE_VIEW);
+				view.display(myConsole);
+			} catch (PartInitException e) {
+				WindupUIPlugin.log(e);
+			}
+		});
+		
+    	AnalysisMetrics.start(configuration.getName());
+    	KantraConsolePump onMessage = new KantraConsolePump(out, WindupRuntimePlugin.computeKantraConsoleLevel());
     	
-    	
-//		kantraJob.cancel();
-   	 WindupLaunchDelegate.activeRunner.runKantra(cli, inputs, output, sources, targets, rules, analyzeKnownLibraries, onMessage, onComplete, onFailed);
+		IssueExplorer.current.viewService.launchStarting();
+		
+		if (!incremental) {
+			IssueExplorer.current.markerService.clear();
+		}
+		
+		// Analyze each input with its own kantra process when allowed to run several at once, or when 
+		// analyzing incrementally, which requires separate results per input.
+		// Only the locations of the configuration are needed, its results are loaded once kantra is done.
+		KantraConfiguration delegate = IssueExplorer.current.modelService.getKantraLocations(configuration);
+		int concurrency = WindupRuntimePlugin.computeKantraConcurrency();
+		boolean fanOut = incremental || (concurrency > 1 && inputs.size() > 1);
+		
+		KantraRunner runner = fanOut ? null : new KantraRunner();
+		WindupLaunchDelegate.activeRunner = runner;
+		boolean knownLibraries = analyzeKnownLibraries;
+		
+		kantraJob = new Job("Kantra Running - " + configuration.getName()) {
+			
+			private CompletableFuture<List<String>> kantra;
+			
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				monitor.beginTask(getName(), TOTAL_WORK);
+				List<String> pending = Lists.newArrayList(inputs);
+				List<KantraSnapshot> snapshots = null;
+				if (incremental) {
+					try {
+						snapshots = KantraSnapshot.findChanged(delegate, KantraSnapshot.computeAll(delegate));
+						pending = snapshots.stream().map(KantraSnapshot::getInput).collect(Collectors.toList());
+					} catch (IOException e) {
+						WindupUIPlugin.logError("Error computing the changes since the last analysis.", e); //$NON-NLS-1$
+					}
+					if (pending.isEmpty()) {
+						onMessage.accept("No changes since the last analysis."); //$NON-NLS-1$
+						onMessage.flush();
+						return Status.OK_STATUS;
+					}
+				}
+				List<String> analyzed = null;
+				KantraProgress progress = new KantraProgress(fanOut ? pending.size() : 1);
+				synchronized (this) {
+					if (monitor.isCanceled()) {
+						return Status.CANCEL_STATUS;
+					}
+					if (fanOut) {
+						// Results are read from the per-input output locations only if there is no combined output.yaml.
+						// It is deleted only now, so that the results remain if there is nothing to analyze or the job is cancelled.
+						new File(delegate.getRulesetResultLocation()).delete();
+						KantraScheduler scheduler = new KantraScheduler(concurrency);
+						scheduler.setProgress(progress);
+						kantra = scheduler.runKantra(cli, pending, output, sources, targets, rules, knownLibraries, onMessage);
+					}
+					else {
+						runner.setProgress(progress);
+						CompletableFuture<Integer> process = runner.runKantra(cli, inputs, output, sources, targets, rules, knownLibraries, onMessage);
+						List<String> all = pending;
+						CompletableFuture<List<String>> analysis = process.thenApply(exitValue -> all);
+						analysis.whenComplete((v, e) -> {
+							if (analysis.isCancelled()) {
+								process.cancel(true);
+							}
+						});
+						kantra = analysis;
+					}
+				}
+				try {
+					// Waits until kantra terminates or the job is cancelled, reporting the progress parsed from its output meanwhile.
+					int worked = 0;
+					while (analyzed == null) {
+						try {
+							analyzed = kantra.get(PROGRESS_INTERVAL, TimeUnit.MILLISECONDS);
+						} catch (TimeoutException e) {
+							worked = reportProgress(monitor, progress, worked);
+						}
+					}
+				} catch (CancellationException | InterruptedException e) {
+					return Status.CANCEL_STATUS;
+				} catch (ExecutionException e) {
+					WindupUIPlugin.logErrorMessage("kantra process failed: " + e.getCause().getMessage()); //$NON-NLS-1$
+				}
+				finally {
+					onMessage.flush();
+					WindupUIPlugin.logInfo(progress.getTimingSummary());
+					progress.getTimings().forEach((phase, duration) -> AnalysisMetrics.record("kantra: " + phase.getLabel(), duration)); //$NON-NLS-1$
+					if (runner != null && WindupLaunchDelegate.activeRunner == runner) {
+						WindupLaunchDelegate.activeRunner = null;
+					}
+				}
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				List<String> failed = Lists.newArrayList();
+				if (fanOut && analyzed != null) {
+					failed.addAll(pending);
+					failed.removeAll(analyzed);
+					if (!failed.isEmpty()) {
+						String message = "kantra failed for input(s): " + String.join(", ", failed); //$NON-NLS-1$ //$NON-NLS-2$
+						onMessage.accept(message);
+						onMessage.flush();
+						WindupUIPlugin.logErrorMessage(message);
+					}
+				}
+				if (incremental && snapshots != null && analyzed != null) {
+					List<String> done = analyzed;
+					snapshots.stream().filter(snapshot -> done.contains(snapshot.getInput())).forEach(snapshot -> snapshot.save(delegate));
+					loadChangedResults(configuration, analyzed);
+				}
+				else {
+					loadResults(configuration, failed);
+				}
+				monitor.done();
+				return Status.OK_STATUS;
+			}
+			
+			@Override
+			protected void canceling() {
+				synchronized (this) {
+					if (kantra != null) {
+						kantra.cancel(true);
+					}
+				}
+			}
+		};
+		kantraJob.setUser(true);
+		kantraJob.schedule();
+	}
+	
+	/**
+	 * Shows the phase, the percentage done and the estimated time remaining of the analysis.
+	 * 
+	 * @return the work reported to the monitor so far.
+	 */
+	private static int reportProgress(IProgressMonitor monitor, KantraProgress progress, int worked) {
+		int done = (int)(progress.getFraction() * TOTAL_WORK);
+		if (done > worked) {
+			monitor.worked(done - worked);
+			worked = done;
+		}
+		KantraProgress.Phase phase = progress.getPhase();
+		if (phase != null) {
+			String percent = String.valueOf(worked * 100 / TOTAL_WORK);
+			long remaining = progress.getRemainingTime();
+			if (remaining < 0) {
+				monitor.subTask(NLS.bind(Messages.kantraProgress, phase.getLabel(), percent));
+			}
+			else {
+				monitor.subTask(NLS.bind(Messages.kantraProgressRemaining, new Object[] {phase.getLabel(), percent, formatDuration(remaining)}));
+			}
+		}
+		return worked;
+	}
+	
+	private static String formatDuration(long millis) {
+		long seconds = TimeUnit.MILLISECONDS.toSeconds(millis);
+		if (seconds < 60) {
+			return NLS.bind(Messages.kantraProgressSeconds, String.valueOf(seconds));
+		}
+		return NLS.bind(Messages.kantraProgressMinutes, String.valueOf((seconds + 30) / 60));
+	}
+	
+	/**
+	 * Loads the results of the completed kantra run into the model, markers, and report view, in that order.
+	 * 
+	 * @param failed the inputs kantra failed to analyze, whose results from an earlier run are discarded.
+	 */
+	private void loadResults(ConfigurationElement configuration, List<String> failed) {
+		configuration.setTimestamp(ModelService.createTimestamp());
+		// The new timestamp invalidates the stored results, so they are only parsed here.
+		KantraConfiguration delegate = IssueExplorer.current.modelService.getKantraLocations(configuration);
+		for (String input : failed) {
+			new File(delegate.getRulesetResultLocation(input)).delete();
+		}
+		KantraRulesetParser.parseRulesetForKantraConfig(delegate);
+		IssueExplorer.current.modelService.save();
+		try {
+			IssueExplorer.current.markerService.generateMarkersForConfiguration(configuration).join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		IssueExplorer.current.viewService.renderReport(configuration);
+	}
+	
+	/**
+	 * Replaces the results and markers of the re-analyzed inputs, leaving those of all other inputs in place.
+	 */
+	private void loadChangedResults(ConfigurationElement configuration, List<String> analyzed) {
+		// The results are kept in memory until they are merged, so the issues whose markers are replaced are the
+		// issues that are removed.
+		IssueExplorer.current.modelService.pinResults(configuration);
+		KantraConfiguration delegate = IssueExplorer.current.modelService.getKantraDelegate(configuration);
+		WindupResult result = configuration.getWindupResult();
+		Set<IResource> staleResources = Sets.newHashSet();
+		for (Issue issue : KantraRulesetParser.getIssues(result, analyzed)) {
+			IFile resource = WorkspaceResourceUtils.getResource(issue.getFileAbsolutePath());
+			if (resource != null) {
+				staleResources.add(resource);
+			}
+		}
+		List<Issue> added = KantraRulesetParser.mergeInputResults(delegate, result, analyzed);
+		IssueExplorer.current.modelService.save();
+		try {
+			IssueExplorer.current.markerService.updateMarkers(configuration, staleResources, added).join();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return;
+		}
+		IssueExplorer.current.viewService.renderReport(configuration);
 	}
 	
 	private MessageConsole findConsole(String name) {
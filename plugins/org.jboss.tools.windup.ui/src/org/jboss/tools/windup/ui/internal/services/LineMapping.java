@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.ui.internal.services;
+
+import org.eclipse.compare.rangedifferencer.IRangeComparator;
+import org.eclipse.compare.rangedifferencer.RangeDifference;
+import org.eclipse.compare.rangedifferencer.RangeDifferencer;
+
+/**
+ * Maps the lines of an earlier version of a file to the lines of its current version, based on a line diff.
+ */
+public class LineMapping {
+
+	private final RangeDifference[] differences;
+
+	private LineMapping(RangeDifference[] differences) {
+		this.differences = differences;
+	}
+
+	public static LineMapping compute(String[] oldLines, String[] newLines) {
+		return new LineMapping(RangeDifferencer.findDifferences(new LineComparator(oldLines), new LineComparator(newLines)));
+	}
+
+	/**
+	 * Returns the 0-based line of the current version corresponding to the given 0-based line of the earlier version.
+	 *
+	 * @return the line, or -1 if the line was changed or deleted.
+	 */
+	public int map(int oldLine) {
+		int shift = 0;
+		// The differences are sorted by position.
+		for (RangeDifference difference : differences) {
+			if (oldLine < difference.leftStart()) {
+				break;
+			}
+			if (oldLine < difference.leftEnd()) {
+				return -1;
+			}
+			shift += difference.rightLength() - difference.leftLength();
+		}
+		return oldLine + shift;
+	}
+
+	private static class LineComparator implements IRangeComparator {
+
+		private final String[] lines;
+
+		LineComparator(String[] lines) {
+			this.lines = lines;
+		}
+
+		@Override
+		public int getRangeCount() {
+			return lines.length;
+		}
+
+		@Override
+		public boolean rangesEqual(int thisIndex, IRangeComparator other, int otherIndex) {
+			return lines[thisIndex].equals(((LineComparator)other).lines[otherIndex]);
+		}
+
+		@Override
+		public boolean skipRangeComparison(int length, int maxLength, IRangeComparator other) {
+			return false;
+		}
+	}
+}
@@ -24,10 +24,11 @@ import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_HINT_MARKE
 import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_MARKER;
 import static org.jboss.tools.windup.model.domain.WindupMarker.WINDUP_QUICKFIX_ID;
 
-import java.lang.reflect.InvocationTargetException;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.PostConstruct;
 import jakarta.inject.Inject;
@@ -35,9 +36,18 @@ import jakarta.inject.Singleton;
 
 import org.eclipse.core.resources.IFile;
 import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IWorkspace;
+import org.eclipse.core.resources.IWorkspaceRunnable;
+import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.SubMonitor;
+import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.e4.core.di.annotations.Creatable;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EObject;
@@ -45,13 +55,13 @@ import org.eclipse.emf.ecore.util.EcoreUtil;
 import org.eclipse.jdt.core.IJavaElement;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jface.dialogs.MessageDialog;
-import org.eclipse.jface.dialogs.ProgressMonitorDialog;
 import org.eclipse.swt.widgets.Display;
 import org.eclipse.ui.PlatformUI;
-import org.eclipse.ui.actions.WorkspaceModifyOperation;
 import org.jboss.tools.windup.model.domain.ModelService;
 import org.jboss.tools.windup.model.domain.WindupMarker;
 import org.jboss.tools.windup.model.domain.WorkspaceResourceUtils;
+import org.jboss.tools.windup.model.util.IssueUtil;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.Messages;
 import org.jboss.tools.windup.ui.internal.explorer.IssueExplorer;
@@ -67,7 +77,9 @@ import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
+import com.google.common.collect.Sets;
 
 /**
  * IMarkers get cached at three points of time:
@@ -112,21 +124,21 @@ public class MarkerService {
 	
 	@Inject private ModelService modelService;
 	
-	private void cache(IMarker marker, MarkerElement element) {
+	private synchronized void cache(IMarker marker, MarkerElement element) {
 		elementToMarkerMap.put(element, marker);
 		resourceElementsMap.put(marker.getResource(), element);
 	}
 	
-	public IMarker findMarker(EObject element) {
+	public synchronized IMarker findMarker(EObject element) {
 		return elementToMarkerMap.get(element);
 	}
 	
-	public List<MarkerElement> find(IResource resource) {
+	public synchronized List<MarkerElement> find(IResource resource) {
 		return Lists.newArrayList(resourceElementsMap.get(resource));
 	}
 	
 	@SuppressWarnings("unchecked")
-	public <T extends MarkerElement> T find(IMarker marker) {
+	public synchronized <T extends MarkerElement> T find(IMarker marker) {
 		return (T)markerToElementMap.get(marker);
 	}
 	
@@ -191,11 +203,13 @@ public class MarkerService {
 			return;
 		}
 		issue.setFixed(true);
+		modelService.issueChanged(issue);
 		IMarker oldMarker = (IMarker)issue.getMarker();
 		IMarker fixedMarker = createMarker(issue, oldMarker.getResource());
 		try {
-			fixedMarker.setAttributes(oldMarker.getAttributes());
-			fixedMarker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+			Map<String, Object> attributes = oldMarker.getAttributes();
+			attributes.put(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+			fixedMarker.setAttributes(attributes);
 			oldMarker.delete();
 			getExplorer().update(issue, oldMarker);
 		} catch (CoreException e) {
@@ -208,11 +222,13 @@ public class MarkerService {
 			return;
 		}
 		issue.setStale(true);
+		modelService.issueChanged(issue);
 		IMarker oldMarker = (IMarker)issue.getMarker();
 		IMarker fixedMarker = createMarker(issue, oldMarker.getResource());
 		try {
-			fixedMarker.setAttributes(oldMarker.getAttributes());
-			fixedMarker.setAttribute(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+			Map<String, Object> attributes = oldMarker.getAttributes();
+			attributes.put(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+			fixedMarker.setAttributes(attributes);
 			oldMarker.delete();
 			getExplorer().update(issue, oldMarker);
 		} catch (CoreException e) {
@@ -220,6 +236,73 @@ public class MarkerService {
 		}
 	}
 	
+	/**
+	 * Moves the relocated hints and their markers to their new line, marks the stale issues as such and deletes 
+	 * the markers of the obsolete issues. The markers are changed in a single workspace operation so that the Issue 
+	 * Explorer receives one marker delta for the whole batch, the issues are changed on the UI thread afterwards. 
+	 * May be called outside the UI thread.
+	 * 
+	 * @param relocatedHints the hints whose line moved, along with their new 1-based line number.
+	 */
+	public void updateIssues(Map<Hint, Integer> relocatedHints, List<? extends Issue> staleIssues, List<? extends Issue> obsoleteIssues) {
+		Map<Hint, Integer> relocated = Maps.newHashMap();
+		List<Issue> stale = Lists.newArrayList();
+		List<Issue> zombies = Lists.newArrayList();
+		IWorkspaceRunnable runnable = monitor -> {
+			for (Map.Entry<Hint, Integer> entry : relocatedHints.entrySet()) {
+				IMarker marker = (IMarker)entry.getKey().getMarker();
+				if (marker != null && marker.exists()) {
+					marker.setAttribute(IMarker.LINE_NUMBER, entry.getValue());
+					relocated.put(entry.getKey(), entry.getValue());
+				}
+			}
+			for (Issue issue : obsoleteIssues) {
+				IMarker marker;
+				synchronized (this) {
+					marker = elementToMarkerMap.remove(issue);
+					if (marker != null) {
+						resourceElementsMap.remove(marker.getResource(), issue);
+					}
+				}
+				if (marker != null) {
+					deleteMarker(marker);
+				}
+			}
+			for (Issue issue : staleIssues) {
+				IMarker oldMarker = (IMarker)issue.getMarker();
+				if (oldMarker == null || !oldMarker.exists() || !oldMarker.getResource().exists()) {
+					zombies.add(issue);
+					continue;
+				}
+				IMarker staleMarker = createMarker(issue, oldMarker.getResource());
+				Map<String, Object> attributes = oldMarker.getAttributes();
+				attributes.put(IMarker.SEVERITY, IMarker.SEVERITY_INFO);
+				staleMarker.setAttributes(attributes);
+				oldMarker.delete();
+				stale.add(issue);
+			}
+		};
+		try {
+			ResourcesPlugin.getWorkspace().run(runnable, null, IWorkspace.AVOID_UPDATE, null);
+		} catch (CoreException e) {
+			WindupUIPlugin.log(e);
+		}
+		if (relocated.isEmpty() && stale.isEmpty() && zombies.isEmpty()) {
+			return;
+		}
+		Display.getDefault().syncExec(() -> {
+			relocated.forEach((hint, lineNumber) -> {
+				hint.setLineNumber(lineNumber);
+				modelService.issueChanged(hint);
+			});
+			for (Issue issue : stale) {
+				issue.setStale(true);
+				modelService.issueChanged(issue);
+			}
+			zombies.forEach(issue -> cleanZombieMarker(issue));
+		});
+	}
+
 	/**
 	 * Case 1. Upon Eclipse startup, load cache from previous execution of Windup.
 	 */
@@ -244,29 +327,62 @@ public class MarkerService {
 	}
 	
 	public void delete(IMarker marker, EObject element) {
-		elementToMarkerMap.remove(element);
-		resourceElementsMap.remove(marker.getResource(), element);
+		synchronized (this) {
+			elementToMarkerMap.remove(element);
+			resourceElementsMap.remove(marker.getResource(), element);
+		}
 		deleteMarker(marker);
 		notifyDeleted(element);
 	}
 	
 	public void clear() {
-		for (Map.Entry<MarkerElement, IMarker> entry : elementToMarkerMap.entrySet()) {
-			deleteMarker(entry.getValue());
+		List<IMarker> markers;
+		synchronized (this) {
+			markers = Lists.newArrayList(elementToMarkerMap.values());
+			elementToMarkerMap.clear();
+			resourceElementsMap.clear();
+		}
+		if (!markers.isEmpty()) {
+			try {
+				// Delete in a single workspace operation so only one resource delta is broadcast.
+				IWorkspaceRunnable runnable = monitor -> markers.forEach(marker -> deleteMarker(marker));
+				ResourcesPlugin.getWorkspace().run(runnable, null, IWorkspace.AVOID_UPDATE, null);
+			} catch (CoreException e) {
+				WindupUIPlugin.log(e);
+			}
 		}
-		elementToMarkerMap.clear();
-		resourceElementsMap.clear();
+		// No markers refer to issues anymore, so their results may be released.
+		modelService.unpinResults();
 		Display.getDefault().syncExec(() -> {
 			notifyMarkersDeleted();
 		});
 	}
 	
 	public void clear(IResource resource) {
-		List<MarkerElement> elements = Lists.newArrayList(resourceElementsMap.get(resource));
-		for (MarkerElement element : elements) {
-			IMarker marker = findMarker(element);
-			delete(marker, element);
+		for (MarkerElement element : remove(resource)) {
+			notifyDeleted(element);
+		}
+	}
+	
+	/**
+	 * Deletes the markers of the resource and removes them from the cache.
+	 * 
+	 * @return the elements whose markers were deleted.
+	 */
+	private List<MarkerElement> remove(IResource resource) {
+		List<MarkerElement> elements;
+		List<IMarker> markers = Lists.newArrayList();
+		synchronized (this) {
+			elements = Lists.newArrayList(resourceElementsMap.removeAll(resource));
+			for (MarkerElement element : elements) {
+				IMarker marker = elementToMarkerMap.remove(element);
+				if (marker != null) {
+					markers.add(marker);
+				}
+			}
 		}
+		markers.forEach(marker -> deleteMarker(marker));
+		return elements;
 	}
 	
 	private void deleteMarker(IMarker marker) {
@@ -279,97 +395,167 @@ public class MarkerService {
 	
 	/**
 	 * Creates the markers corresponding to provided ConfigurationElement.
+	 * 
+	 * Markers are created by a background job, in one workspace operation per project, so that 
+	 * the resulting resource change notifications are batched.
+	 * 
+	 * @return the scheduled job creating the markers.
 	 */
-	public void generateMarkersForConfiguration(ConfigurationElement configuration) {
+	public Job generateMarkersForConfiguration(ConfigurationElement configuration) {
 		clear();
-		Display.getDefault().syncExec(() -> {
-			try {
-				WorkspaceModifyOperation op = new WorkspaceModifyOperation() {
-					@Override
-					protected void execute(IProgressMonitor monitor)
-							throws CoreException, InvocationTargetException, InterruptedException {
-						monitor.beginTask(Messages.generateIssues, getTotalMarkerCount(configuration));
-						monitor.subTask(Messages.generateIssues);
-						createMarkers(configuration, monitor);
+		List<Issue> issues = configuration.getWindupResult() != null ? 
+				Lists.newArrayList(configuration.getWindupResult().getIssues()) : Lists.newArrayList();
+		return updateMarkers(configuration, Collections.emptySet(), issues);
+	}
+	
+	/**
+	 * Replaces the markers of the given resources with the markers of the given issues, leaving all other
+	 * markers in place. Used when only part of the configuration's inputs have been analyzed again.
+	 * 
+	 * @return the scheduled job updating the markers.
+	 */
+	public Job updateMarkers(ConfigurationElement configuration, Collection<IResource> staleResources, List<Issue> newIssues) {
+		// Markers refer to the configuration's issues, which must not be released while the markers exist.
+		modelService.pinResults(configuration);
+		Job job = new Job(Messages.generateIssues) {
+			@Override
+			protected IStatus run(IProgressMonitor monitor) {
+				SubMonitor progress = SubMonitor.convert(monitor, Messages.generateIssues, getTotalMarkerCount(newIssues));
+				AnalysisMetrics.Timer timer = AnalysisMetrics.time("Generate markers") //$NON-NLS-1$
+						.count("issues", newIssues.size()).count("staleResources", staleResources.size()); //$NON-NLS-1$ //$NON-NLS-2$
+				try {
+					if (!staleResources.isEmpty()) {
+						IWorkspaceRunnable runnable = m -> staleResources.forEach(resource -> remove(resource));
+						ResourcesPlugin.getWorkspace().run(runnable, null, IWorkspace.AVOID_UPDATE, null);
+					}
+					Set<Issue> orphans = Sets.newHashSet();
+					Map<IProject, List<Issue>> issues = groupByProject(newIssues, orphans);
+					if (!orphans.isEmpty()) {
+						// The model is changed on the UI thread only, like the Issue Explorer reading it.
+						Display.getDefault().syncExec(() -> {
+							if (configuration.getWindupResult() != null) {
+								configuration.getWindupResult().getIssues().removeAll(orphans);
+							}
+						});
+					}
+					for (Map.Entry<IProject, List<Issue>> entry : issues.entrySet()) {
+						IWorkspaceRunnable runnable = m -> createMarkers(configuration, entry.getValue(), progress);
+						ResourcesPlugin.getWorkspace().run(runnable, entry.getKey(), IWorkspace.AVOID_UPDATE, null);
 					}
-				};
-				new ProgressMonitorDialog(Display.getDefault().getActiveShell()).run(false, false, op);
-				notifyMarkersCreated();
-			} catch (InvocationTargetException | InterruptedException e) {
-				Display.getDefault().syncExec(() -> {
-					MessageDialog.openError(Display.getDefault().getActiveShell(), 
-							Messages.launchErrorTitle, Messages.markersCreateError);
+				} catch (OperationCanceledException e) {
+					return Status.CANCEL_STATUS;
+				} catch (CoreException e) {
+					WindupUIPlugin.log(e);
+					Display.getDefault().asyncExec(() -> {
+						MessageDialog.openError(Display.getDefault().getActiveShell(), 
+								Messages.launchErrorTitle, Messages.markersCreateError);
+					});
+					return e.getStatus();
+				}
+				finally {
+					timer.close();
+					monitor.done();
+				}
+				Display.getDefault().asyncExec(() -> {
+					notifyMarkersCreated();
 				});
-				WindupUIPlugin.log(e);
+				return Status.OK_STATUS;
 			}
-		});
+		};
+		job.schedule();
+		return job;
 	}
 	
-	private void createMarkers(ConfigurationElement configuration, IProgressMonitor monitor) throws CoreException {
-		if (configuration.getWindupResult() == null) {
-			return;
-		}
-		int count = 0;
-		for (Iterator<Issue> iter = configuration.getWindupResult().getIssues().iterator(); iter.hasNext();) {
-			Issue issue = iter.next();
+	/**
+	 * Groups the given issues by the project containing their resource. Issues not associated with a workspace 
+	 * resource are added to the given orphans instead.
+	 */
+	private Map<IProject, List<Issue>> groupByProject(List<Issue> configurationIssues, Set<Issue> orphans) {
+		Map<IProject, List<Issue>> issues = Maps.newLinkedHashMap();
+		for (Issue issue : configurationIssues) {
 			IFile resource = WorkspaceResourceUtils.getResource(issue.getFileAbsolutePath());
 			if (resource == null || !resource.exists()) {
 				WindupUIPlugin.logErrorMessage("MarkerService:: No resource associated with issue file: " + issue.getFileAbsolutePath()); //$NON-NLS-1$
-				iter.remove();
+				orphans.add(issue);
 				continue;
 			}
-			createWindupMarker(issue, configuration, resource);
-			monitor.worked(++count);
+			issues.computeIfAbsent(resource.getProject(), project -> Lists.newArrayList()).add(issue);
+		}
+		return issues;
+	}
+	
+	/**
+	 * Creates the markers for the given issues, reporting progress every {@link #MARKER_CHUNK_SIZE} issues.
+	 */
+	private void createMarkers(ConfigurationElement configuration, List<Issue> issues, SubMonitor progress) throws CoreException {
+		Map<IResource, String> elementIds = Maps.newHashMap();
+		Map<Integer, String> efforts = Maps.newHashMap();
+		int chunk = 0;
+		for (Issue issue : issues) {
+			IFile resource = WorkspaceResourceUtils.getResource(issue.getFileAbsolutePath());
+			createWindupMarker(issue, configuration, resource, elementIds, efforts);
+			chunk += 1 + IssueUtil.getQuickFixes(issue).size();
+			if (chunk >= MARKER_CHUNK_SIZE) {
+				progress.split(chunk);
+				chunk = 0;
+			}
 		}
+		progress.worked(chunk);
 	}
 	
 	/**
 	 * Helper method that actually creates the marker on the specified resource for the specified Windup migration issue.
 	 */
-	private void createWindupMarker(Issue issue, ConfigurationElement configuration, IResource resource) throws CoreException {
-		
-		IMarker marker = createMarker(issue, resource);
-		issue.setMarker(marker);
+	private void createWindupMarker(Issue issue, ConfigurationElement configuration, IResource resource, Map<IResource, String> elementIds, 
+			Map<Integer, String> efforts) throws CoreException {
+		Map<String, Object> attributes = Maps.newHashMap();
 		
 		if (issue instanceof Hint) {
 			Hint hint = (Hint)issue;
-			marker.setAttribute(IMarker.LINE_NUMBER, hint.getLineNumber());
-//			marker.setAttribute(IMarker.LINE_NUMBER, hint.getLineNumber());
-			//marker.setAttribute(IMarker.CHAR_START, hint.getColumn());
-			//marker.setAttribute(IMarker.CHAR_END, hint.getLength());
-			marker.setAttribute(SOURCE_SNIPPET, hint.getSourceSnippet());
+			attributes.put(IMarker.LINE_NUMBER, hint.getLineNumber());
+			//attributes.put(IMarker.CHAR_START, hint.getColumn());
+			//attributes.put(IMarker.CHAR_END, hint.getLength());
+			attributes.put(SOURCE_SNIPPET, hint.getSourceSnippet());
 		}
 		else {
 			//Classification classification = (Classification)issue;
-			marker.setAttribute(IMarker.LINE_NUMBER, 1);
-			marker.setAttribute(IMarker.CHAR_START, 0);
-			marker.setAttribute(IMarker.CHAR_END, 0);
+			attributes.put(IMarker.LINE_NUMBER, 1);
+			attributes.put(IMarker.CHAR_START, 0);
+			attributes.put(IMarker.CHAR_END, 0);
 		}
 		
-		IJavaElement element = JavaCore.create(resource);
-		if (element != null) {
-			marker.setAttribute(ELEMENT_ID, element.getHandleIdentifier());
+		String elementId = elementIds.computeIfAbsent(resource, r -> {
+			IJavaElement element = JavaCore.create(r);
+			return element != null ? element.getHandleIdentifier() : null;
+		});
+		if (elementId != null) {
+			attributes.put(ELEMENT_ID, elementId);
 		}
 		
-		marker.setAttribute(DESCRIPTION, issue.getMessageOrDescription());
-		marker.setAttribute("file", issue.getFileAbsolutePath());
-		marker.setAttribute(IMarker.MESSAGE, issue.getTitle());
-		marker.setAttribute(TITLE, issue.getTitle());
+		attributes.put(DESCRIPTION, issue.getMessageOrDescription());
+		attributes.put("file", issue.getFileAbsolutePath());
+		attributes.put(IMarker.MESSAGE, issue.getTitle());
+		attributes.put(TITLE, issue.getTitle());
 		
-		marker.setAttribute(URI_ID, EcoreUtil.getURI(issue).toString());
-		marker.setAttribute(CONFIGURATION_ID, configuration.getName());
-		marker.setAttribute(IMarker.SEVERITY, MarkerUtil.convertSeverity(issue.getSeverity()));
-		marker.setAttribute(SEVERITY, issue.getSeverity());
-        marker.setAttribute(RULE_ID, issue.getRuleId());
-        marker.setAttribute(EFFORT, String.valueOf(issue.getEffort()));
-        marker.setAttribute(IMarker.USER_EDITABLE, false);
-        marker.setAttribute(WINDUP_MARKER, true);
+		attributes.put(URI_ID, EcoreUtil.getURI(issue).toString());
+		attributes.put(CONFIGURATION_ID, configuration.getName());
+		attributes.put(IMarker.SEVERITY, MarkerUtil.convertSeverity(issue.getSeverity()));
+		attributes.put(SEVERITY, issue.getSeverity());
+		attributes.put(RULE_ID, issue.getRuleId());
+		// Markers keep their attributes, so equal values are shared rather than created for every marker.
+		attributes.put(EFFORT, efforts.computeIfAbsent(issue.getEffort(), effort -> effort.toString()));
+		attributes.put(IMarker.USER_EDITABLE, false);
+		attributes.put(WINDUP_MARKER, true);
+		
+		IMarker marker = createMarker(issue, resource);
+		issue.setMarker(marker);
+		marker.setAttributes(attributes);
         
-        createQuickfixMarkers(issue);
+		createQuickfixMarkers(issue);
 	}
 	
 	private void createQuickfixMarkers(Issue issue) throws CoreException {
-		for (QuickFix quickfix : issue.getQuickFixes()) {
+		for (QuickFix quickfix : IssueUtil.getQuickFixes(issue)) {
 			IFile resource = WorkspaceResourceUtils.getResource(quickfix.getFile());
 			IMarker marker = createMarker(quickfix, resource);
 			quickfix.setMarker(marker);
@@ -398,25 +584,18 @@ public class MarkerService {
 		return null;
 	}
 	
+	/**
+	 * Number of markers created between two progress updates.
+	 */
+	private static final int MARKER_CHUNK_SIZE = 500;
+	
 	/**
 	 * Returns the total number of markers that will be created. Used for reporting progress.
 	 */
-	private int getTotalMarkerCount(ConfigurationElement configuration) {
+	private int getTotalMarkerCount(List<Issue> issues) {
 		int count = 0;
-		if (configuration.getWindupResult() == null) {
-			return count;
-		}
-		
-		for (Issue issue : configuration.getWindupResult().getIssues()) {
-			count++;
-			if (issue instanceof Hint) {
-				Hint hint = (Hint)issue;
-				count += hint.getQuickFixes().size();
-			}
-			else if (issue instanceof Classification) {
-				Classification classification = (Classification)issue;
-				count += classification.getQuickFixes().size();
-			}
+		for (Issue issue : issues) {
+			count += 1 + IssueUtil.getQuickFixes(issue).size();
 		}
 		return count;
 	}
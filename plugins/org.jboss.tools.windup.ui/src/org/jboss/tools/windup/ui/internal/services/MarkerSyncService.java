@@ -10,12 +10,19 @@
  ******************************************************************************/
 package org.jboss.tools.windup.ui.internal.services;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 //import jakarta.inject.Inject;
 
 import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IFileState;
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
@@ -24,14 +31,22 @@ import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.IResourceDeltaVisitor;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
-import org.eclipse.swt.widgets.Display;
-import org.jboss.tools.windup.model.util.DocumentUtils;
+import org.eclipse.core.runtime.IProgressMonitor;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.core.runtime.jobs.Job;
+import org.jboss.tools.windup.model.util.IssueUtil;
+import org.jboss.tools.windup.model.util.LineIndex;
 import org.jboss.tools.windup.ui.WindupExtensionFactory;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.windup.Hint;
 import org.jboss.tools.windup.windup.MarkerElement;
 import org.osgi.framework.Bundle;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import com.google.common.io.ByteStreams;
 import com.google.inject.ConfigurationException;
 import com.google.inject.Injector;
 import com.google.inject.Provider;
@@ -84,6 +99,7 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 	@PostConstruct
 	private void init() {
 		System.out.println("@PostConstruct :: MarkerSyncService");
+		syncJob.setSystem(true);
 		ResourcesPlugin.getWorkspace().addResourceChangeListener(this, IResourceChangeEvent.PRE_BUILD);
 		
 	}
@@ -91,8 +107,41 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 	@PreDestroy
 	private void dispose() {
 		ResourcesPlugin.getWorkspace().removeResourceChangeListener(this);
+		syncJob.cancel();
 	}
 	
+	/**
+	 * Delay during which changes are collected before their files are checked, so that a burst of
+	 * changes such as a refactoring is processed at once.
+	 */
+	private static final int COALESCE_DELAY = 500;
+	
+	// Files whose contents changed since they were last checked.
+	private final Set<IFile> changedFiles = Sets.newLinkedHashSet();
+	
+	private final Job syncJob = new Job("Updating Windup issues") { //$NON-NLS-1$
+		@Override
+		protected IStatus run(IProgressMonitor monitor) {
+			List<IFile> files;
+			synchronized (changedFiles) {
+				files = Lists.newArrayList(changedFiles);
+				changedFiles.clear();
+			}
+			Map<Hint, Integer> relocatedHints = Maps.newHashMap();
+			List<Hint> staleHints = Lists.newArrayList();
+			List<Hint> obsoleteHints = Lists.newArrayList();
+			for (IFile file : files) {
+				if (monitor.isCanceled()) {
+					return Status.CANCEL_STATUS;
+				}
+				check(file, relocatedHints, staleHints, obsoleteHints);
+			}
+			if (!relocatedHints.isEmpty() || !staleHints.isEmpty() || !obsoleteHints.isEmpty()) {
+				markerService.updateIssues(relocatedHints, staleHints, obsoleteHints);
+			}
+			return Status.OK_STATUS;
+		}
+	};
 	
 	@Override
 	public void resourceChanged(IResourceChangeEvent event) {
@@ -101,6 +150,13 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 		} catch (CoreException e) {
 			WindupUIPlugin.log(e);
 		}
+		boolean changed;
+		synchronized (changedFiles) {
+			changed = !changedFiles.isEmpty();
+		}
+		if (changed) {
+			syncJob.schedule(COALESCE_DELAY);
+		}
 	}
 	
 	@Override
@@ -109,11 +165,9 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 		if (resource instanceof IFile) {
 			switch (delta.getKind()) {
 				case IResourceDelta.CHANGED: {
-					if ((delta.getFlags() & IResourceDelta.CONTENT) != 0) {
-						for (MarkerElement element : markerService.find(resource)) {
-							if (element instanceof Hint) {
-								update((Hint)element);
-							}
+					if ((delta.getFlags() & IResourceDelta.CONTENT) != 0 && !markerService.find(resource).isEmpty()) {
+						synchronized (changedFiles) {
+							changedFiles.add((IFile)resource);
 						}
 					}
 				}
@@ -122,35 +176,104 @@ public class MarkerSyncService implements IResourceChangeListener, IResourceDelt
 		return true;
 	}
 	
+	private static final int SNAPSHOT_CACHE_SIZE = 64;
+	
+	// The lines of recently checked files, as they were when last checked.
+	private final Map<IFile, String[]> snapshots = new LinkedHashMap<IFile, String[]>(SNAPSHOT_CACHE_SIZE, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<IFile, String[]> eldest) {
+			return size() > SNAPSHOT_CACHE_SIZE;
+		}
+	};
+	
 	/**
-	 * Marks issues as stale if the issue's original line of code differs from the current. 
+	 * Compares the file once against all of its hints. Hints whose original line of code moved are relocated,
+	 * hints whose original line of code differs from the current are stale, hints whose line no longer exists
+	 * are obsolete.
+	 * 
+	 * Lines are followed with a diff between the current contents and the contents the file had when it was last 
+	 * checked or, the first time, its previous state in the local history.
 	 */
-	private void update(Hint hint) {
-		if (!hint.isStale() && !hint.isFixed()) {
+	private void check(IFile file, Map<Hint, Integer> relocatedHints, List<Hint> staleHints, List<Hint> obsoleteHints) {
+		LineIndex index = file.exists() ? LineIndex.get(file) : null;
+		int lineNumbers = index != null ? index.getNumberOfLines() : 0;
+		String[] lines = index != null ? index.getLines() : new String[0];
+		LineMapping mapping = null;
+		String[] previous = getSnapshot(file);
+		if (previous != null) {
+			mapping = LineMapping.compute(previous, lines);
+		}
+		for (MarkerElement element : markerService.find(file)) {
+			if (!(element instanceof Hint)) {
+				continue;
+			}
+			Hint hint = (Hint)element;
+			if (hint.isStale() || hint.isFixed()) {
+				continue;
+			}
 			IMarker marker = (IMarker)hint.getMarker();
-			
 			if (marker == null) {
-				Display.getDefault().syncExec(() -> {
-					markerService.delete(marker, hint);
-				});
+				obsoleteHints.add(hint);
+				continue;
 			}
-			
+			String source = IssueUtil.getSourceLine(hint);
 			int lineNumber = marker.getAttribute(IMarker.LINE_NUMBER, hint.getLineNumber()) - 1;
-			int lineNumbers = DocumentUtils.getLineNumbers(marker.getResource());
-			
-			if (lineNumber > lineNumbers || lineNumbers == 0) {
-				Display.getDefault().syncExec(() -> {
-					markerService.delete(marker, hint);
-				});
+			if (lineNumber < 0) {
+				// Not reported on a line, so not affected by changes to lines.
+				continue;
+			}
+			if (lineNumber < lineNumbers && isLine(lines[lineNumber], source)) {
+				// Unchanged, or already moved along with the editor's contents.
+				continue;
+			}
+			int newLineNumber = mapping != null ? mapping.map(lineNumber) : -1;
+			if (newLineNumber >= 0 && newLineNumber < lineNumbers && isLine(lines[newLineNumber], source)) {
+				relocatedHints.put(hint, newLineNumber + 1);
 			}
-			
-			else if (DocumentUtils.differs(marker.getResource(), lineNumber, hint.getOriginalLineSource())) {
-				Display.getDefault().syncExec(() -> {
-					markerService.setStale(hint);
-				});
+			else if (lineNumber >= lineNumbers) {
+				obsoleteHints.add(hint);
 			}
+			else {
+				staleHints.add(hint);
+			}
+		}
+		synchronized (snapshots) {
+			snapshots.put(file, lines);
 		}
 	}
 	
-
+	/**
+	 * Returns whether the line of the file is the original line of a hint. Lines are compared without their leading
+	 * and trailing whitespace, and a hint whose original line is unknown matches any line.
+	 */
+	private static boolean isLine(String line, String source) {
+		return source == null || line.trim().equals(source);
+	}
+	
+	/**
+	 * Returns the lines of the file as they were when it was last checked, or before its last modification.
+	 * 
+	 * @return the lines, or null if the previous contents of the file are unknown.
+	 */
+	private String[] getSnapshot(IFile file) {
+		synchronized (snapshots) {
+			String[] lines = snapshots.get(file);
+			if (lines != null) {
+				return lines;
+			}
+		}
+		try {
+			IFileState[] history = file.getHistory(null);
+			if (history.length > 0) {
+				try (InputStream in = history[0].getContents()) {
+					String contents = new String(ByteStreams.toByteArray(in), history[0].getCharset());
+					return LineIndex.of(contents).getLines();
+				}
+			}
+		} catch (CoreException | IOException e) {
+			WindupUIPlugin.log(e);
+		}
+		return null;
+	}
 }
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.ui.internal.views;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.text.DateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+
+import org.eclipse.jface.dialogs.MessageDialog;
+import org.eclipse.jface.layout.GridDataFactory;
+import org.eclipse.jface.layout.GridLayoutFactory;
+import org.eclipse.jface.viewers.ArrayContentProvider;
+import org.eclipse.jface.viewers.ColumnLabelProvider;
+import org.eclipse.jface.viewers.TableViewer;
+import org.eclipse.jface.viewers.TableViewerColumn;
+import org.eclipse.osgi.util.NLS;
+import org.eclipse.swt.SWT;
+import org.eclipse.swt.events.SelectionAdapter;
+import org.eclipse.swt.events.SelectionEvent;
+import org.eclipse.swt.widgets.Button;
+import org.eclipse.swt.widgets.Composite;
+import org.eclipse.swt.widgets.Display;
+import org.eclipse.swt.widgets.FileDialog;
+import org.eclipse.swt.widgets.Label;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics.Stage;
+import org.jboss.tools.windup.ui.WindupUIPlugin;
+import org.jboss.tools.windup.ui.internal.Messages;
+
+/**
+ * Shows the durations, item counts and heap deltas of the stages of the last analysis.
+ */
+public class AnalysisPerformanceView {
+
+	public static final String ID = "org.jboss.tools.windup.ui.analysisPerformanceView"; //$NON-NLS-1$
+
+	private static final int REFRESH_DELAY = 200;
+
+	private Label summary;
+	private TableViewer viewer;
+	private Button exportButton;
+	private boolean refreshScheduled;
+
+	private final Runnable listener = () -> {
+		Display display = Display.getDefault();
+		display.asyncExec(() -> {
+			// Stages are recorded in bursts, refresh once per burst.
+			if (!refreshScheduled && viewer != null && !viewer.getControl().isDisposed()) {
+				refreshScheduled = true;
+				display.timerExec(REFRESH_DELAY, this::refresh);
+			}
+		});
+	};
+
+	@PostConstruct
+	public void create(Composite parent) {
+		GridLayoutFactory.fillDefaults().numColumns(2).margins(5, 5).applyTo(parent);
+
+		summary = new Label(parent, SWT.NONE);
+		GridDataFactory.fillDefaults().grab(true, false).applyTo(summary);
+
+		exportButton = new Button(parent, SWT.PUSH);
+		exportButton.setText(Messages.analysisPerformanceExport);
+		exportButton.addSelectionListener(new SelectionAdapter() {
+			@Override
+			public void widgetSelected(SelectionEvent e) {
+				export();
+			}
+		});
+
+		viewer = new TableViewer(parent, SWT.BORDER | SWT.FULL_SELECTION);
+		viewer.getTable().setHeaderVisible(true);
+		viewer.getTable().setLinesVisible(true);
+		GridDataFactory.fillDefaults().span(2, 1).grab(true, true).applyTo(viewer.getControl());
+		viewer.setContentProvider(ArrayContentProvider.getInstance());
+
+		createColumn(Messages.analysisPerformanceStage, 220, stage -> stage.getName());
+		createColumn(Messages.analysisPerformanceStart, 80, stage -> stage.getOffset() < 0 ? "" : String.valueOf(stage.getOffset())); //$NON-NLS-1$
+		createColumn(Messages.analysisPerformanceDuration, 90, stage -> String.valueOf(stage.getDuration()));
+		createColumn(Messages.analysisPerformanceHeap, 90, stage -> String.valueOf(stage.getHeapDelta() / 1024));
+		createColumn(Messages.analysisPerformanceCounts, 260, stage -> stage.getCounters().entrySet().stream()
+				.map(Map.Entry::toString).collect(Collectors.joining(", "))); //$NON-NLS-1$
+
+		AnalysisMetrics.addListener(listener);
+		refresh();
+	}
+
+	private interface StageText {
+		String getText(Stage stage);
+	}
+
+	private void createColumn(String title, int width, StageText text) {
+		TableViewerColumn column = new TableViewerColumn(viewer, SWT.NONE);
+		column.getColumn().setText(title);
+		column.getColumn().setWidth(width);
+		column.setLabelProvider(new ColumnLabelProvider() {
+			@Override
+			public String getText(Object element) {
+				return text.getText((Stage)element);
+			}
+		});
+	}
+
+	private void refresh() {
+		refreshScheduled = false;
+		if (viewer.getControl().isDisposed()) {
+			return;
+		}
+		AnalysisMetrics run = AnalysisMetrics.getLast();
+		if (run == null) {
+			summary.setText(Messages.analysisPerformanceNoRun);
+			viewer.setInput(new Stage[0]);
+		}
+		else {
+			String started = DateFormat.getDateTimeInstance().format(new Date(run.getStartTime()));
+			summary.setText(NLS.bind(Messages.analysisPerformanceRun, run.getName(), started));
+			viewer.setInput(run.getStages());
+		}
+		exportButton.setEnabled(run != null);
+		summary.getParent().layout();
+	}
+
+	private void export() {
+		AnalysisMetrics run = AnalysisMetrics.getLast();
+		if (run == null) {
+			return;
+		}
+		FileDialog dialog = new FileDialog(viewer.getControl().getShell(), SWT.SAVE);
+		dialog.setFilterExtensions(new String[] {"*.json"}); //$NON-NLS-1$
+		dialog.setFileName("analysis-performance.json"); //$NON-NLS-1$
+		dialog.setOverwrite(true);
+		String path = dialog.open();
+		if (path == null) {
+			return;
+		}
+		try {
+			Files.write(Paths.get(path), run.toJson().getBytes(StandardCharsets.UTF_8));
+		} catch (IOException e) {
+			WindupUIPlugin.logError("Error exporting analysis performance.", e); //$NON-NLS-1$
+			MessageDialog.openError(viewer.getControl().getShell(), Messages.analysisPerformanceExport, e.getMessage());
+		}
+	}
+
+	@PreDestroy
+	public void dispose() {
+		AnalysisMetrics.removeListener(listener);
+	}
+}
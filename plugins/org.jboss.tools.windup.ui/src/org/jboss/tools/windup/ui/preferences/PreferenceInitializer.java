@@ -33,6 +33,9 @@ public class PreferenceInitializer extends AbstractPreferenceInitializer {
 		if (!path.isEmpty()) {
 			defaultPreferences.put(IPreferenceConstants.WINDUP_HOME, path);	
 		}
+		defaultPreferences.put(IPreferenceConstants.KANTRA_CONCURRENCY, String.valueOf(IPreferenceConstants.DEFAULT_KANTRA_CONCURRENCY));
+		defaultPreferences.put(IPreferenceConstants.KANTRA_CONSOLE_LEVEL, IPreferenceConstants.DEFAULT_KANTRA_CONSOLE_LEVEL);
+		defaultPreferences.putBoolean(IPreferenceConstants.ISSUE_EXPLORER_VIRTUAL, IPreferenceConstants.DEFAULT_ISSUE_EXPLORER_VIRTUAL);
 //		
 //		defaultPreferences.put(IPreferenceConstants.RMI_PORT, String.valueOf(IPreferenceConstants.DEFAULT_RMI_PORT));
 //		IVMInstall jre = JavaRuntime.getDefaultVMInstall();
@@ -27,6 +27,8 @@ import org.eclipse.jdt.ui.ISharedImages;
 import org.eclipse.jdt.ui.JavaUI;
 import org.eclipse.jface.layout.GridDataFactory;
 import org.eclipse.jface.layout.GridLayoutFactory;
+import org.eclipse.jface.preference.BooleanFieldEditor;
+import org.eclipse.jface.preference.ComboFieldEditor;
 import org.eclipse.jface.preference.DirectoryFieldEditor;
 import org.eclipse.jface.preference.FieldEditorPreferencePage;
 import org.eclipse.jface.preference.FileFieldEditor;
@@ -52,6 +54,7 @@ import org.eclipse.ui.preferences.ScopedPreferenceStore;
 import org.jboss.tools.windup.runtime.IPreferenceConstants;
 import org.jboss.tools.windup.runtime.WindupRmiClient;
 import org.jboss.tools.windup.runtime.WindupRuntimePlugin;
+import org.jboss.tools.windup.runtime.kantra.KantraLogLevel;
 import org.jboss.tools.windup.ui.WindupUIPlugin;
 import org.jboss.tools.windup.ui.internal.Messages;
 import org.osgi.service.prefs.BackingStoreException;
@@ -63,6 +66,9 @@ public class WindupPreferencePage extends FieldEditorPreferencePage implements I
 	
 	private FileFieldEditor homeEditor;
 	private IntegerFieldEditor portEditor;
+	private IntegerFieldEditor concurrencyEditor;
+	private BooleanFieldEditor virtualEditor;
+	private ComboFieldEditor consoleLevelEditor;
 	
 	private IntegerFieldEditor startTimeoutDurationEditor;
 	private IntegerFieldEditor stopTimeoutDurationEditor;
@@ -97,6 +103,32 @@ public class WindupPreferencePage extends FieldEditorPreferencePage implements I
 //				getFieldEditorParent());
 		homeEditor.setEmptyStringAllowed(false);
 		addField(homeEditor);
+		
+		concurrencyEditor = new IntegerFieldEditor(
+				IPreferenceConstants.KANTRA_CONCURRENCY, 
+				Messages.WindupPreferenceKantraConcurrency, 
+				getFieldEditorParent());
+		concurrencyEditor.setValidRange(1, Runtime.getRuntime().availableProcessors());
+		concurrencyEditor.setEmptyStringAllowed(false);
+		addField(concurrencyEditor);
+		
+		String[][] levels = new String[KantraLogLevel.values().length][];
+		for (int i = 0; i < levels.length; i++) {
+			String name = KantraLogLevel.values()[i].name();
+			levels[i] = new String[] {name.charAt(0) + name.substring(1).toLowerCase(), name};
+		}
+		consoleLevelEditor = new ComboFieldEditor(
+				IPreferenceConstants.KANTRA_CONSOLE_LEVEL, 
+				Messages.WindupPreferenceKantraConsoleLevel, 
+				levels,
+				getFieldEditorParent());
+		addField(consoleLevelEditor);
+		
+		virtualEditor = new BooleanFieldEditor(
+				IPreferenceConstants.ISSUE_EXPLORER_VIRTUAL, 
+				Messages.WindupPreferenceVirtualExplorer, 
+				getFieldEditorParent());
+		addField(virtualEditor);
 //		
 //		portEditor = new IntegerFieldEditor(
 //				IPreferenceConstants.RMI_PORT, 
@@ -230,6 +262,8 @@ public class WindupPreferencePage extends FieldEditorPreferencePage implements I
 	public boolean performOk() {
 		boolean result = super.performOk();
 		preferences.put(IPreferenceConstants.WINDUP_HOME, homeEditor.getStringValue());
+		preferences.put(IPreferenceConstants.KANTRA_CONCURRENCY, concurrencyEditor.getStringValue());
+		preferences.putBoolean(IPreferenceConstants.ISSUE_EXPLORER_VIRTUAL, virtualEditor.getBooleanValue());
 //		preferences.put(IPreferenceConstants.RMI_PORT, portEditor.getStringValue());
 //		preferences.put(IPreferenceConstants.START_TIMEOUT, startTimeoutDurationEditor.getStringValue());
 //		preferences.put(IPreferenceConstants.STOP_TIMEOUT, stopTimeoutDurationEditor.getStringValue());
@@ -0,0 +1,89 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.jboss.tools.windup.model.util.DocumentUtils;
+import org.jboss.tools.windup.model.util.LineIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Looking up the source lines of issues, as done for every marker when checking whether its line changed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentUtilsBenchmark {
+
+	@Param({"1000", "20000"})
+	public int lines;
+
+	private File file;
+	private IFile resource;
+
+	@Setup
+	public void setup() throws IOException {
+		file = Files.createTempFile("windup-benchmark", ".java").toFile(); //$NON-NLS-1$ //$NON-NLS-2$
+		try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			for (int i = 0; i < lines; i++) {
+				out.write("    private static final String CONSTANT_" + i + " = \"value " + i + "\";\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+			}
+		}
+		resource = Fixtures.createFile(file.getAbsolutePath());
+	}
+
+	@TearDown
+	public void tearDown() {
+		file.delete();
+	}
+
+	/**
+	 * Looks up every {@value Fixtures#INCIDENTS_PER_FILE}th line of a file whose index is cached.
+	 */
+	@Benchmark
+	public int getLines() {
+		int length = 0;
+		for (int line = 0; line < lines; line += Fixtures.INCIDENTS_PER_FILE) {
+			length += DocumentUtils.getLine(resource, line).length();
+		}
+		return length;
+	}
+
+	/**
+	 * Looks up one line of a file that was not indexed yet.
+	 */
+	@Benchmark
+	public String getLineUncached() {
+		LineIndex.invalidate(resource);
+		return DocumentUtils.getLine(resource, lines / 2);
+	}
+}
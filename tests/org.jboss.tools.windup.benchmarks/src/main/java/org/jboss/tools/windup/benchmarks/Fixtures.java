@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.benchmarks;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.runtime.Path;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Incident;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Link;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Ruleset;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Violation;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.WindupFactory;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Synthetic kantra results and workspace handles, so that the benchmarks run without a workbench.
+ *
+ * The results have the shape of a large analysis: {@value #RULESETS} rulesets, {@value #INCIDENTS_PER_VIOLATION}
+ * incidents per violation, and {@value #INCIDENTS_PER_FILE} incidents per file spread over {@value #PACKAGES} packages.
+ */
+public class Fixtures {
+
+	public static final String INPUT = "/tmp/source-code"; //$NON-NLS-1$
+	// See KantraConfiguration#sourceBase()
+	private static final String SOURCE_BASE = "file:///tmp/source-code"; //$NON-NLS-1$
+
+	static final int RULESETS = 10;
+	static final int INCIDENTS_PER_VIOLATION = 50;
+	static final int INCIDENTS_PER_FILE = 10;
+	static final int PACKAGES = 100;
+
+	public static String getPath(int incident) {
+		int file = incident / INCIDENTS_PER_FILE;
+		return "/src/main/java/com/acme/pkg" + (file % PACKAGES) + "/Class" + file + ".java"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	public static String getRuleId(int violation) {
+		return "rule-" + violation; //$NON-NLS-1$
+	}
+
+	public static int getLineNumber(int incident) {
+		return 10 + (incident % INCIDENTS_PER_FILE) * 7;
+	}
+
+	/**
+	 * Writes an <code>output.yaml</code> with the given number of incidents.
+	 */
+	public static void writeOutputYaml(File file, int incidents) throws IOException {
+		int violations = (incidents + INCIDENTS_PER_VIOLATION - 1) / INCIDENTS_PER_VIOLATION;
+		try (BufferedWriter out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+			for (int r = 0; r < RULESETS; r++) {
+				out.write("- name: ruleset-" + r + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				out.write("  description: Synthetic ruleset " + r + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				out.write("  violations:\n"); //$NON-NLS-1$
+				for (int v = r; v < violations; v += RULESETS) {
+					out.write("    " + getRuleId(v) + ":\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					out.write("      description: |-\n        Replace the use of API " + v + "\n        More details.\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					out.write("      category: mandatory\n"); //$NON-NLS-1$
+					out.write("      labels:\n      - konveyor.io/source=java-ee\n      - konveyor.io/target=quarkus\n"); //$NON-NLS-1$
+					out.write("      incidents:\n"); //$NON-NLS-1$
+					int end = Math.min(incidents, (v + 1) * INCIDENTS_PER_VIOLATION);
+					for (int i = v * INCIDENTS_PER_VIOLATION; i < end; i++) {
+						out.write("      - uri: " + SOURCE_BASE + getPath(i) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						out.write("        message: Replace the use of API " + v + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						out.write("        codeSnip: \"" + getLineNumber(i) + "  import javax.api" + v + ".Type;\"\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						out.write("        lineNumber: " + getLineNumber(i) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						out.write("        variables:\n          file: " + SOURCE_BASE + getPath(i) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					out.write("      links:\n      - url: https://example.com/api-" + v + "\n        title: API " + v + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					out.write("      effort: " + (1 + v % 5) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the rulesets of an <code>output.yaml</code> with the given number of incidents, as parsed by
+	 * {@link org.jboss.tools.windup.model.domain.KantraRulesetParser#parseRuleset(String)}.
+	 */
+	public static List<Ruleset> createRulesets(int incidents) {
+		int violations = (incidents + INCIDENTS_PER_VIOLATION - 1) / INCIDENTS_PER_VIOLATION;
+		List<Ruleset> rulesets = Lists.newArrayList();
+		for (int r = 0; r < RULESETS; r++) {
+			Ruleset ruleset = new Ruleset();
+			ruleset.setName("ruleset-" + r); //$NON-NLS-1$
+			ruleset.setViolations(Maps.newLinkedHashMap());
+			for (int v = r; v < violations; v += RULESETS) {
+				Violation violation = new Violation();
+				violation.setDescription("Replace the use of API " + v + "\nMore details."); //$NON-NLS-1$ //$NON-NLS-2$
+				violation.setEffort(1 + v % 5);
+				Link link = new Link();
+				link.setUrl("https://example.com/api-" + v); //$NON-NLS-1$
+				link.setTitle("API " + v); //$NON-NLS-1$
+				violation.setLinks(Lists.newArrayList(link));
+				int end = Math.min(incidents, (v + 1) * INCIDENTS_PER_VIOLATION);
+				for (int i = v * INCIDENTS_PER_VIOLATION; i < end; i++) {
+					Incident incident = new Incident();
+					incident.setUri(SOURCE_BASE + getPath(i));
+					incident.setMessage("Replace the use of API " + v); //$NON-NLS-1$
+					incident.setCodeSnip(getLineNumber(i) + "  import javax.api" + v + ".Type;"); //$NON-NLS-1$ //$NON-NLS-2$
+					incident.setLineNumber(getLineNumber(i));
+					violation.addIncidents(incident);
+				}
+				ruleset.addViolation(getRuleId(v), violation);
+			}
+			rulesets.add(ruleset);
+		}
+		return rulesets;
+	}
+
+	/**
+	 * Returns a configuration analyzing {@link #INPUT}.
+	 */
+	public static ConfigurationElement createConfiguration() {
+		ConfigurationElement configuration = WindupFactory.eINSTANCE.createConfigurationElement();
+		configuration.setName("benchmark"); //$NON-NLS-1$
+		Input input = WindupFactory.eINSTANCE.createInput();
+		input.setName("source-code"); //$NON-NLS-1$
+		input.setLocation(INPUT);
+		configuration.getInputs().add(input);
+		return configuration;
+	}
+
+	/**
+	 * Returns a file handle answering its name, location and modification stamp. Handles are equal only if identical.
+	 */
+	public static IFile createFile(String location) {
+		Path path = new Path(location);
+		return (IFile)Proxy.newProxyInstance(Fixtures.class.getClassLoader(), new Class<?>[] {IFile.class}, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getName": return path.lastSegment(); //$NON-NLS-1$
+				case "getLocation": return path; //$NON-NLS-1$
+				case "getFullPath": return path; //$NON-NLS-1$
+				case "getType": return IResource.FILE; //$NON-NLS-1$
+				case "getModificationStamp": return 1L; //$NON-NLS-1$
+				case "equals": return proxy == args[0]; //$NON-NLS-1$
+				case "hashCode": return System.identityHashCode(proxy); //$NON-NLS-1$
+				case "toString": return location; //$NON-NLS-1$
+				default: throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	/**
+	 * Returns a marker handle on the given resource with the given attributes. Attributes not given answer their default.
+	 */
+	public static IMarker createMarker(IResource resource, Map<String, Object> attributes) {
+		return (IMarker)Proxy.newProxyInstance(Fixtures.class.getClassLoader(), new Class<?>[] {IMarker.class}, (proxy, method, args) -> {
+			switch (method.getName()) {
+				case "getResource": return resource; //$NON-NLS-1$
+				case "getAttribute": //$NON-NLS-1$
+					Object value = attributes.get(args[0]);
+					return value != null || args.length == 1 ? value : args[1];
+				case "exists": return true; //$NON-NLS-1$
+				case "equals": return proxy == args[0]; //$NON-NLS-1$
+				case "hashCode": return System.identityHashCode(proxy); //$NON-NLS-1$
+				case "toString": return resource + ":" + attributes; //$NON-NLS-1$ //$NON-NLS-2$
+				default: throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+}
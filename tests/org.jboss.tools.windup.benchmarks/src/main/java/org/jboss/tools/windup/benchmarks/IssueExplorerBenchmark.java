@@ -0,0 +1,158 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.benchmarks;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.core.resources.IFile;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.jface.viewers.TreePath;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerComparator;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.RootTreeNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNodeBuilder;
+import org.jboss.tools.windup.ui.internal.explorer.MarkerNode;
+import org.jboss.tools.windup.ui.internal.services.MarkerService;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.MarkerElement;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+
+/**
+ * Building and sorting the Issue Explorer's tree.
+ *
+ * The navigator paths of the resources, which TreeNodeBuilder looks up in the workbench, are precomputed, so the
+ * tree is built by {@link TreeNodeBuilder#build(TreeNode, TreeNode, TreePath, IMarker, int)} without a workbench.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class IssueExplorerBenchmark {
+
+	// See WindupMarker
+	private static final String SEVERITY = "SEVERITY_ID"; //$NON-NLS-1$
+	private static final String RULE_ID = "RULE_ID"; //$NON-NLS-1$
+
+	@Param({"10000", "100000"})
+	public int markers;
+
+	private ConfigurationElement configuration;
+	private MarkerService markerService;
+	private List<IMarker> markerList;
+	private TreePath[] paths;
+	private TreeNode[] siblings;
+
+	@Setup
+	public void setup() {
+		configuration = Fixtures.createConfiguration();
+		Map<IMarker, MarkerElement> issues = Maps.newHashMap();
+		markerService = new MarkerService() {
+			@SuppressWarnings("unchecked")
+			@Override
+			public synchronized <T extends MarkerElement> T find(IMarker marker) {
+				return (T)issues.get(marker);
+			}
+		};
+		markerList = Lists.newArrayList();
+		paths = new TreePath[markers];
+		Map<String, IFile> files = Maps.newHashMap();
+		for (int i = 0; i < markers; i++) {
+			String path = Fixtures.getPath(i);
+			IFile file = files.computeIfAbsent(path, p -> Fixtures.createFile(Fixtures.INPUT + p));
+			int violation = i / Fixtures.INCIDENTS_PER_VIOLATION;
+			Map<String, Object> attributes = Maps.newHashMap();
+			attributes.put(RULE_ID, Fixtures.getRuleId(violation));
+			attributes.put(SEVERITY, violation % 3 == 0 ? "mandatory" : "optional"); //$NON-NLS-1$ //$NON-NLS-2$
+			IMarker marker = Fixtures.createMarker(file, attributes);
+			Hint hint = WindupFactory.eINSTANCE.createHint();
+			hint.setTitle("Replace the use of API " + violation); //$NON-NLS-1$
+			hint.setLineNumber(Fixtures.getLineNumber(i));
+			issues.put(marker, hint);
+			markerList.add(marker);
+			String pkg = path.substring(path.indexOf("com/"), path.lastIndexOf('/')).replace('/', '.'); //$NON-NLS-1$
+			paths[i] = new TreePath(new Object[] {"workspace", "source-code", "src/main/java", pkg}); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+		}
+		// The children of a resource node, as sorted when expanding it: marker nodes of one file in random order.
+		Random random = new Random(42);
+		siblings = new TreeNode[Math.min(markers, 1000)];
+		IFile file = Fixtures.createFile(Fixtures.INPUT + Fixtures.getPath(0));
+		for (int i = 0; i < siblings.length; i++) {
+			Hint hint = WindupFactory.eINSTANCE.createHint();
+			hint.setLineNumber(random.nextInt(10000));
+			siblings[i] = new MarkerNode(Fixtures.createMarker(file, Collections.emptyMap()), hint);
+		}
+	}
+
+	@Benchmark
+	public RootTreeNode buildTree() {
+		TreeNodeBuilder builder = new TreeNodeBuilder(markerList, markerService, configuration, null);
+		RootTreeNode root = builder.getRoot();
+		for (int i = 0; i < markers; i++) {
+			builder.build(root, root, paths[i], markerList.get(i), 1);
+		}
+		return root;
+	}
+
+	@Benchmark
+	public TreeNode[] sortMarkerNodes() {
+		IssueExplorerComparator comparator = new IssueExplorerComparator();
+		TreeNode[] nodes = Arrays.copyOf(siblings, siblings.length);
+		Arrays.sort(nodes, (n1, n2) -> comparator.compare(null, n1, n2));
+		return nodes;
+	}
+
+	/**
+	 * Sorts the top-level nodes of a built tree, the packages of the input.
+	 */
+	@Benchmark
+	public Object[] sortPackageNodes(TreeState state) {
+		IssueExplorerComparator comparator = new IssueExplorerComparator();
+		Object[] nodes = Arrays.copyOf(state.packages, state.packages.length);
+		comparator.sort(null, nodes);
+		return nodes;
+	}
+
+	@State(Scope.Benchmark)
+	public static class TreeState {
+
+		private Object[] packages;
+
+		@Setup
+		public void setup(IssueExplorerBenchmark benchmark) {
+			TreeNode project = benchmark.buildTree().getChildren().get(0);
+			List<TreeNode> nodes = Lists.newArrayList(project.getChildren().get(0).getChildren());
+			Collections.shuffle(nodes, new Random(42));
+			packages = nodes.toArray();
+		}
+	}
+}
@@ -0,0 +1,112 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.benchmarks;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.tools.windup.model.domain.KantraConfiguration;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Incident;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Ruleset;
+import org.jboss.tools.windup.model.domain.KantraConfiguration.Violation;
+import org.jboss.tools.windup.model.domain.KantraOutputStreamParser;
+import org.jboss.tools.windup.model.domain.KantraOutputStreamParser.IncidentHandler;
+import org.jboss.tools.windup.model.domain.KantraRulesetParser;
+import org.jboss.tools.windup.windup.WindupResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Reading kantra's <code>output.yaml</code> and converting its incidents to hints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xms4g", "-Xmx4g"})
+public class ResultParserBenchmark {
+
+	@Param({"10000", "100000", "1000000"})
+	public int incidents;
+
+	private File directory;
+	private File outputYaml;
+	private List<Ruleset> rulesets;
+	private KantraConfiguration configuration;
+
+	@Setup
+	public void setup() throws IOException {
+		directory = Files.createTempDirectory("windup-benchmark").toFile(); //$NON-NLS-1$
+		outputYaml = new File(directory, "output.yaml"); //$NON-NLS-1$
+		Fixtures.writeOutputYaml(outputYaml, incidents);
+		rulesets = Fixtures.createRulesets(incidents);
+		configuration = new KantraConfiguration(Fixtures.createConfiguration());
+	}
+
+	@TearDown
+	public void tearDown() {
+		outputYaml.delete();
+		directory.delete();
+	}
+
+	/**
+	 * Binds the whole <code>output.yaml</code> at once.
+	 */
+	@Benchmark
+	public List<Ruleset> parseRuleset() {
+		List<Ruleset> result = KantraRulesetParser.parseRuleset(outputYaml.getAbsolutePath());
+		if (result == null) {
+			// parseRuleset() logs and swallows its errors, don't let a failure pass for a fast run.
+			throw new IllegalStateException("parseRuleset failed, see the output above"); //$NON-NLS-1$
+		}
+		return result;
+	}
+
+	/**
+	 * Streams the incidents of <code>output.yaml</code>, as done when loading the results of an analysis.
+	 */
+	@Benchmark
+	public List<Ruleset> streamOutputYaml(Blackhole blackhole) throws IOException {
+		return KantraOutputStreamParser.parse(outputYaml, new IncidentHandler() {
+			@Override
+			public void startViolation(Ruleset ruleset, String ruleId, Violation violation) {
+			}
+			@Override
+			public void incident(Ruleset ruleset, String ruleId, Violation violation, Incident incident) {
+				blackhole.consume(incident);
+			}
+			@Override
+			public void endViolation(Ruleset ruleset, String ruleId, Violation violation) {
+			}
+		});
+	}
+
+	@Benchmark
+	public WindupResult processIncidents() {
+		KantraRulesetParser.processIncidents(rulesets, configuration);
+		return configuration.getWindupConfiguration().getWindupResult();
+	}
+}
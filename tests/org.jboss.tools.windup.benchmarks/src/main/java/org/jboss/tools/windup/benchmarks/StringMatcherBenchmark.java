@@ -0,0 +1,75 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorer;
+import org.jboss.tools.windup.ui.internal.explorer.StringMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Matching the Issue Explorer's filter text against the labels of 100k issues.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StringMatcherBenchmark {
+
+	private static final int LABELS = 100000;
+
+	/**
+	 * Filter texts as typed by the user: a word, a rule id prefix, and wild cards.
+	 */
+	@Param({"type", "rule-12", "api*4?", "no such text"})
+	public String text;
+
+	private String[] labels;
+	private StringMatcher matcher;
+
+	@Setup
+	public void setup() {
+		labels = new String[LABELS];
+		for (int i = 0; i < LABELS; i++) {
+			int violation = i / Fixtures.INCIDENTS_PER_VIOLATION;
+			switch (i % 3) {
+				case 0: labels[i] = "Replace the use of API " + violation; break; //$NON-NLS-1$
+				case 1: labels[i] = Fixtures.getRuleId(violation); break;
+				default: labels[i] = "import javax.api" + violation + ".Type;"; //$NON-NLS-1$ //$NON-NLS-2$
+			}
+		}
+		matcher = IssueExplorer.getFilterMatcher(text);
+	}
+
+	@Benchmark
+	public int match() {
+		int matches = 0;
+		for (String label : labels) {
+			if (matcher.match(label)) {
+				matches++;
+			}
+		}
+		return matches;
+	}
+}
@@ -17,7 +17,8 @@ import org.junit.runners.Suite.SuiteClasses;
 @RunWith(Suite.class)
 @SuiteClasses({
 	WindupValidatorTest.class,
-	WindupServiceTest.class
+	WindupServiceTest.class,
+	IssueUtilTest.class
 })
 public class AllTestsSuite {
 
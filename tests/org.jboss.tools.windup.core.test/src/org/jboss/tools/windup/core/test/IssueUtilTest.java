@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.core.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+import org.apache.commons.io.FileUtils;
+import org.jboss.tools.windup.model.domain.KantraConfiguration;
+import org.jboss.tools.windup.model.domain.KantraRulesetParser;
+import org.jboss.tools.windup.model.util.IssueUtil;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Hint;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests for {@link IssueUtil#getSourceLine(Hint)}, which the marker synchronization compares the lines of changed
+ * files against.
+ */
+public class IssueUtilTest {
+
+	private File input;
+	private File output;
+
+	@Before
+	public void createDirectories() throws IOException {
+		input = Files.createTempDirectory("issue-util-input").toFile(); //$NON-NLS-1$
+		output = Files.createTempDirectory("issue-util-output").toFile(); //$NON-NLS-1$
+	}
+
+	@After
+	public void deleteDirectories() throws IOException {
+		FileUtils.deleteDirectory(input);
+		FileUtils.deleteDirectory(output);
+	}
+
+	@Test
+	public void testGetSourceLine_KantraSnippet() {
+		Hint hint = createHint(3, "  1  package com.acme;\n  2  \n  3  import javax.ejb.Stateless;\n  4  \n  5  @Stateless\n"); //$NON-NLS-1$
+		Assert.assertEquals("import javax.ejb.Stateless;", IssueUtil.getSourceLine(hint)); //$NON-NLS-1$
+		hint.setLineNumber(2);
+		Assert.assertEquals("", IssueUtil.getSourceLine(hint)); //$NON-NLS-1$
+		hint.setLineNumber(10);
+		Assert.assertNull(IssueUtil.getSourceLine(hint));
+	}
+
+	@Test
+	public void testGetSourceLine_Line() {
+		Hint hint = createHint(3, "    import javax.ejb.Stateless;"); //$NON-NLS-1$
+		Assert.assertEquals("import javax.ejb.Stateless;", IssueUtil.getSourceLine(hint)); //$NON-NLS-1$
+		Assert.assertNull(IssueUtil.getSourceLine(createHint(3, null)));
+	}
+
+	@Test
+	public void testGetSourceLine_ParsedResults() throws IOException {
+		KantraResultGenerator generator = new KantraResultGenerator(2, 10, 200, 5);
+		generator.writeSources(input);
+		ConfigurationElement configuration = WindupFactory.eINSTANCE.createConfigurationElement();
+		configuration.setName("issue-util-test"); //$NON-NLS-1$
+		configuration.setOutputLocation(output.getAbsolutePath());
+		Input location = WindupFactory.eINSTANCE.createInput();
+		location.setName("issue-util-test"); //$NON-NLS-1$
+		location.setLocation(input.getAbsolutePath());
+		configuration.getInputs().add(location);
+		KantraConfiguration delegate = new KantraConfiguration(configuration);
+		generator.writeOutputYaml(new File(delegate.getRulesetResultLocation()), delegate.sourceBase());
+
+		KantraRulesetParser.parseRulesetForKantraConfig(delegate);
+		Assert.assertNotNull("No results were loaded", configuration.getWindupResult()); //$NON-NLS-1$
+		List<Issue> issues = configuration.getWindupResult().getIssues();
+		Assert.assertEquals(generator.getIncidents(), issues.size());
+		for (Issue issue : issues) {
+			Hint hint = (Hint)issue;
+			List<String> lines = Files.readAllLines(new File(hint.getFileAbsolutePath()).toPath(), StandardCharsets.UTF_8);
+			Assert.assertEquals(lines.get(hint.getLineNumber() - 1).trim(), IssueUtil.getSourceLine(hint));
+		}
+	}
+
+	private static Hint createHint(int lineNumber, String source) {
+		Hint hint = WindupFactory.eINSTANCE.createHint();
+		hint.setLineNumber(lineNumber);
+		hint.setOriginalLineSource(source);
+		return hint;
+	}
+}
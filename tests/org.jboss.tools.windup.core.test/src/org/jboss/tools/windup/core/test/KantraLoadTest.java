@@ -0,0 +1,215 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.core.test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.core.resources.IContainer;
+import org.eclipse.core.resources.IMarker;
+import org.eclipse.core.resources.IProject;
+import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.ResourcesPlugin;
+import org.eclipse.core.runtime.CoreException;
+import org.eclipse.core.runtime.IStatus;
+import org.eclipse.core.runtime.Platform;
+import org.eclipse.core.runtime.Status;
+import org.eclipse.jface.viewers.TreePath;
+import org.jboss.tools.windup.model.domain.KantraConfiguration;
+import org.jboss.tools.windup.model.domain.KantraRulesetParser;
+import org.jboss.tools.windup.model.domain.ModelService;
+import org.jboss.tools.windup.model.domain.WindupMarker;
+import org.jboss.tools.windup.model.util.IssueUtil;
+import org.jboss.tools.windup.runtime.metrics.AnalysisMetrics;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.RootTreeNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNode;
+import org.jboss.tools.windup.ui.internal.explorer.IssueExplorerContentProvider.TreeNodeBuilder;
+import org.jboss.tools.windup.ui.internal.explorer.MarkerNode;
+import org.jboss.tools.windup.ui.internal.services.MarkerService;
+import org.jboss.tools.windup.windup.ConfigurationElement;
+import org.jboss.tools.windup.windup.Input;
+import org.jboss.tools.windup.windup.Issue;
+import org.jboss.tools.windup.windup.WindupFactory;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.osgi.framework.FrameworkUtil;
+
+import com.google.common.collect.Maps;
+
+/**
+ * Loads generated kantra results of production size: parses <code>output.yaml</code> into the model,
+ * creates the markers and builds the Issue Explorer's tree.
+ *
+ * The test checks what doesn't depend on the machine: the number of issues, markers and tree nodes, that the hints
+ * of a rule share their title and links, and the heap retained by the parsed results. The duration and heap delta
+ * of each stage are logged as an {@link AnalysisMetrics} run, to be compared between runs on the same machine.
+ *
+ * The test is not part of {@link AllTestsSuite}. The number of incidents defaults to {@value #DEFAULT_INCIDENTS}, to keep
+ * it short when all tests of the bundle are run, and is set to production size with the
+ * <code>windup.loadtest.incidents</code> system property. Tests are skipped by default, run this one with:
+ * <pre>
+ * mvn verify -DskipTests=false -Dtest=KantraLoadTest -Dwindup.loadtest.incidents=200000
+ * </pre>
+ */
+public class KantraLoadTest extends WindupTest {
+
+	private static final String PROJECT = "kantra-load-test"; //$NON-NLS-1$
+	private static final int DEFAULT_INCIDENTS = 5000;
+
+	// A hint retains about 350 bytes: the hint itself, its source line, its list of shared links and its entry in
+	// the result. The ceiling leaves a margin of about a third on top of it, so that copying any per-rule data into
+	// the hints fails the test.
+	private static final long HEAP_BYTES_PER_INCIDENT = 480;
+	// The rulesets, interned strings and mapped paths, which don't grow with the incidents, and the GC's noise.
+	private static final long FIXED_HEAP_BYTES = 8 * 1024 * 1024;
+
+	@Inject private ModelService modelService;
+	@Inject private MarkerService markerService;
+
+	private KantraResultGenerator generator;
+	private IProject project;
+	private File output;
+
+	@Before
+	public void createWorkspace() throws IOException, CoreException {
+		int incidents = Integer.getInteger("windup.loadtest.incidents", DEFAULT_INCIDENTS); //$NON-NLS-1$
+		generator = new KantraResultGenerator(20, Math.max(20, incidents / 50), incidents, Math.max(1, incidents / 10));
+		project = ResourcesPlugin.getWorkspace().getRoot().getProject(PROJECT);
+		if (!project.exists()) {
+			project.create(null);
+		}
+		project.open(null);
+		generator.writeSources(project.getLocation().toFile());
+		project.refreshLocal(IResource.DEPTH_INFINITE, null);
+		output = Files.createTempDirectory("kantra-load-test").toFile(); //$NON-NLS-1$
+	}
+
+	@After
+	public void deleteWorkspace() throws CoreException, IOException {
+		markerService.clear();
+		project.delete(true, true, null);
+		FileUtils.deleteDirectory(output);
+	}
+
+	@Test
+	public void testLoadResults() throws Exception {
+		ConfigurationElement configuration = WindupFactory.eINSTANCE.createConfigurationElement();
+		configuration.setName(PROJECT);
+		configuration.setOutputLocation(output.getAbsolutePath());
+		Input input = WindupFactory.eINSTANCE.createInput();
+		input.setName(PROJECT);
+		input.setLocation(project.getLocation().toString());
+		configuration.getInputs().add(input);
+		KantraConfiguration delegate = new KantraConfiguration(configuration);
+		generator.writeOutputYaml(new File(delegate.getRulesetResultLocation()), delegate.sourceBase());
+		int incidents = generator.getIncidents();
+
+		AnalysisMetrics.start(getClass().getSimpleName() + ": " + incidents + " incidents"); //$NON-NLS-1$ //$NON-NLS-2$
+		long heap = usedHeap();
+		// The parser records its own stage.
+		KantraRulesetParser.parseRulesetForKantraConfig(delegate);
+		long parseHeap = usedHeap() - heap;
+		Assert.assertNotNull("No results were loaded", configuration.getWindupResult()); //$NON-NLS-1$
+		List<Issue> issues = new ArrayList<Issue>(configuration.getWindupResult().getIssues());
+		Assert.assertEquals(incidents, issues.size());
+		assertShared(issues);
+
+		IMarker[] created;
+		try (AnalysisMetrics.Timer timer = AnalysisMetrics.time("Create markers")) { //$NON-NLS-1$
+			markerService.updateMarkers(configuration, Collections.emptySet(), issues).join();
+			created = project.findMarkers(WindupMarker.WINDUP_HINT_MARKER_ID, true, IResource.DEPTH_INFINITE);
+			timer.count("markers", created.length); //$NON-NLS-1$
+		}
+		Assert.assertEquals(incidents, created.length);
+
+		int nodes;
+		try (AnalysisMetrics.Timer timer = AnalysisMetrics.time("Build tree")) { //$NON-NLS-1$
+			nodes = buildTree(configuration, Arrays.asList(created));
+			timer.count("nodes", nodes); //$NON-NLS-1$
+		}
+		Assert.assertEquals(incidents, nodes);
+
+		Platform.getLog(FrameworkUtil.getBundle(getClass())).log(new Status(IStatus.INFO, WindupCoreTestPlugin.PLUGIN_ID,
+				AnalysisMetrics.getLast().toJson()));
+		long ceiling = FIXED_HEAP_BYTES + HEAP_BYTES_PER_INCIDENT * incidents;
+		Assert.assertTrue("The results retain " + parseHeap + " bytes, more than " + ceiling, parseHeap <= ceiling); //$NON-NLS-1$ //$NON-NLS-2$
+	}
+
+	/**
+	 * Asserts that the hints of a rule share their title and links instead of holding copies.
+	 */
+	private static void assertShared(List<Issue> issues) {
+		Map<String, Issue> first = Maps.newHashMap();
+		for (Issue issue : issues) {
+			Issue other = first.putIfAbsent(issue.getRuleId(), issue);
+			if (other != null) {
+				Assert.assertSame(other.getTitle(), issue.getTitle());
+				List<?> links = IssueUtil.getLinks(issue);
+				List<?> otherLinks = IssueUtil.getLinks(other);
+				Assert.assertEquals(otherLinks.size(), links.size());
+				for (int i = 0; i < links.size(); i++) {
+					Assert.assertSame(otherLinks.get(i), links.get(i));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Builds the Issue Explorer's tree of the markers, with the resource hierarchy below the project as the navigator
+	 * paths, so that no Issue Explorer needs to be open.
+	 *
+	 * @return the number of marker nodes in the tree.
+	 */
+	private int buildTree(ConfigurationElement configuration, List<IMarker> markers) {
+		TreeNodeBuilder builder = new TreeNodeBuilder(markers, markerService, configuration, modelService);
+		RootTreeNode root = builder.getRoot();
+		for (IMarker marker : markers) {
+			builder.build(root, root, getParentPath(marker.getResource()), marker, 1);
+		}
+		return countMarkerNodes(root);
+	}
+
+	private static TreePath getParentPath(IResource resource) {
+		List<Object> segments = new ArrayList<Object>();
+		for (IContainer container = resource.getParent(); container.getType() != IResource.ROOT; container = container.getParent()) {
+			segments.add(0, container);
+		}
+		// The first segment, the project, is skipped by the builder.
+		return new TreePath(segments.toArray());
+	}
+
+	private static int countMarkerNodes(TreeNode node) {
+		int count = node instanceof MarkerNode ? 1 : 0;
+		for (TreeNode child : node.getChildren()) {
+			count += countMarkerNodes(child);
+		}
+		return count;
+	}
+
+	private static long usedHeap() {
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+}
@@ -0,0 +1,117 @@
+/*******************************************************************************
+ * Copyright (c) 2021 Red Hat, Inc.
+ * Distributed under license by Red Hat, Inc. All rights reserved.
+ * This program is made available under the terms of the
+ * Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ *
+ * Contributors:
+ *   Red Hat, Inc. - initial API and implementation
+ ******************************************************************************/
+package org.jboss.tools.windup.core.test;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Generates kantra results of a given size, along with the sources they refer to.
+ *
+ * The output is deterministic: the same parameters always produce the same <code>output.yaml</code> and sources.
+ * Incidents are assigned to rulesets and violations in order, and to random lines of random source files.
+ */
+public class KantraResultGenerator {
+
+	private static final long SEED = 42;
+	private static final int PACKAGES = 50;
+	private static final int LINES_PER_FILE = 200;
+
+	private final int rulesets;
+	private final int violations;
+	private final int incidents;
+	private final int files;
+
+	/**
+	 * @param rulesets the number of rulesets.
+	 * @param violations the number of violations, spread evenly over the rulesets.
+	 * @param incidents the number of incidents, spread evenly over the violations.
+	 * @param files the number of source files the incidents are located in.
+	 */
+	public KantraResultGenerator(int rulesets, int violations, int incidents, int files) {
+		this.rulesets = rulesets;
+		this.violations = Math.max(violations, rulesets);
+		this.incidents = incidents;
+		this.files = files;
+	}
+
+	public int getIncidents() {
+		return incidents;
+	}
+
+	/**
+	 * Returns the path of a source file relative to the input.
+	 */
+	public String getPath(int file) {
+		return "src/main/java/com/acme/pkg" + (file % PACKAGES) + "/Class" + file + ".java"; //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+	}
+
+	/**
+	 * Writes the source files into the given input directory.
+	 */
+	public void writeSources(File input) throws IOException {
+		for (int file = 0; file < files; file++) {
+			File source = new File(input, getPath(file));
+			source.getParentFile().mkdirs();
+			try (BufferedWriter out = Files.newBufferedWriter(source.toPath(), StandardCharsets.UTF_8)) {
+				out.write("package com.acme.pkg" + (file % PACKAGES) + ";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				for (int line = 2; line < LINES_PER_FILE; line++) {
+					out.write("    private String field" + line + " = \"value\";\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+				out.write("}\n"); //$NON-NLS-1$
+			}
+		}
+	}
+
+	/**
+	 * Writes the <code>output.yaml</code> kantra would have written analyzing the sources, mounted at the given URI.
+	 */
+	public void writeOutputYaml(File outputYaml, String sourceBase) throws IOException {
+		Random random = new Random(SEED);
+		String base = sourceBase.endsWith("/") ? sourceBase : sourceBase + "/"; //$NON-NLS-1$ //$NON-NLS-2$
+		outputYaml.getParentFile().mkdirs();
+		try (BufferedWriter out = Files.newBufferedWriter(outputYaml.toPath(), StandardCharsets.UTF_8)) {
+			for (int r = 0; r < rulesets; r++) {
+				out.write("- name: ruleset-" + r + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				out.write("  description: Generated ruleset " + r + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				out.write("  violations:\n"); //$NON-NLS-1$
+				for (int v = violationStart(r); v < violationStart(r + 1); v++) {
+					out.write("    rule-" + v + ":\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					out.write("      description: |-\n        Replace API " + v + "\n        Generated violation.\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					out.write("      category: " + (v % 3 == 0 ? "mandatory" : "optional") + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$ //$NON-NLS-4$
+					out.write("      incidents:\n"); //$NON-NLS-1$
+					for (int i = incidentStart(v); i < incidentStart(v + 1); i++) {
+						int file = random.nextInt(files);
+						int line = 2 + random.nextInt(LINES_PER_FILE - 2);
+						out.write("      - uri: " + base + getPath(file) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						out.write("        message: Replace API " + v + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+						out.write("        codeSnip: \"" + line + "      private String field" + line + " = \\\"value\\\";\"\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+						out.write("        lineNumber: " + line + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+					}
+					out.write("      links:\n      - url: https://example.com/rule-" + v + "\n        title: Rule " + v + "\n"); //$NON-NLS-1$ //$NON-NLS-2$ //$NON-NLS-3$
+					out.write("      effort: " + (1 + v % 5) + "\n"); //$NON-NLS-1$ //$NON-NLS-2$
+				}
+			}
+		}
+	}
+
+	private int violationStart(int ruleset) {
+		return (int)((long)ruleset * violations / rulesets);
+	}
+
+	private int incidentStart(int violation) {
+		return (int)((long)violation * incidents / violations);
+	}
+}